@@ -1,13 +1,114 @@
 package main;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
+import main.batch.BatchCompiler;
+import main.cache.CompilationCache;
+import main.server.CompileServer;
+import main.watch.SourceWatcher;
+
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 
 public class Cmm {
+    private static final String USAGE = "usage: Cmm [options] <file.cmm | directory>...\n" +
+            "       Cmm --server [port] [options]\n" +
+            "       Cmm --watch [options] <file.cmm | directory>...";
+
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
+        ArrayList<String> fileNames = new ArrayList<>();
+        CompilerOptions options = new CompilerOptions();
+        boolean server = false;
+        boolean watch = false;
+        Integer port = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--in-process"))
+                options.setRunInProcess(true);
+            else if (arg.equals("--in-memory"))
+                options.setInMemory(true);
+            else if (arg.equals("--cache"))
+                options.setCache(new CompilationCache(new File(".cmm-cache"), 256L * 1024 * 1024));
+            else if (arg.equals("--stats") || arg.equals("--stats=json"))
+                options.setStats(arg.equals("--stats") ? "text" : "json");
+            else if (arg.equals("--jar") && i + 1 < args.length)
+                options.setJarFile(new File(args[++i]));
+            else if (arg.equals("--stdout-file") && i + 1 < args.length)
+                options.setOutputTee(new File(args[++i]));
+            else if (arg.equals("--stderr-file") && i + 1 < args.length)
+                options.setErrorTee(new File(args[++i]));
+            else if (arg.equals("--low-memory"))
+                options.setLowMemory(true);
+            else if (arg.equals("--parallel-parse"))
+                options.setParallelParsing(true);
+            else if (arg.equals("--fast-lexer"))
+                options.setHandWrittenLexer(true);
+            else if (arg.equals("--profile-parser"))
+                options.setProfileParser(true);
+            else if (arg.equals("--ll-only"))
+                options.setTwoStageParsing(false);
+            else if (arg.equals("--watch"))
+                watch = true;
+            else if (arg.equals("--server")) {
+                server = true;
+                if (i + 1 < args.length && args[i + 1].matches("\\d+"))
+                    port = Integer.parseInt(args[++i]);
+            }
+            else if (arg.startsWith("--"))
+                exitWithUsage("Unknown option: " + arg);
+            else
+                fileNames.add(arg);
+        }
+
+        if (server) {
+            if (watch || !fileNames.isEmpty())
+                exitWithUsage("--server takes no source files and cannot be combined with --watch");
+            if (options.getJarFile() != null || options.hasOutputTees())
+                exitWithUsage("--jar, --stdout-file and --stderr-file are not supported with --server");
+            CompileServer compileServer = new CompileServer();
+            compileServer.setOptions(options);
+            if (port != null)
+                compileServer.listen(port);
+            else
+                compileServer.serve(System.in, System.out);
+            return;
+        }
+        if (fileNames.isEmpty())
+            exitWithUsage(null);
+        if (watch) {
+            new SourceWatcher(options).watch(fileNames);
+            return;
+        }
+        if (fileNames.size() > 1 || new File(fileNames.get(0)).isDirectory()) {
+            if (options.hasOutputTees())
+                exitWithUsage("--stdout-file and --stderr-file need a single source file; " +
+                        "batch output is written to output.txt in each program's directory");
+            BatchCompiler batchCompiler = new BatchCompiler();
+            batchCompiler.setOptions(options);
+            boolean successful = batchCompiler.compileAll(fileNames);
+            printCacheCounters(options.getCache());
+            if (!successful)
+                System.exit(1);
+            return;
+        }
         CmmCompiler cmmCompiler = new CmmCompiler();
-        cmmCompiler.compile(reader);
+        options.configure(cmmCompiler);
+        cmmCompiler.setCaptureOutput(false);
+        CompilationResult result = cmmCompiler.compile(options.open(fileNames.get(0)));
+        printCacheCounters(options.getCache());
+        options.report(result, System.out);
+        if (!result.isSuccessful())
+            System.exit(1);
+    }
+
+    private static void exitWithUsage(String message) {
+        if (message != null)
+            System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+
+    private static void printCacheCounters(CompilationCache cache) {
+        if (cache != null)
+            System.out.println("\nCache: " + cache.getHits() + " hits, " + cache.getMisses() + " misses");
     }
 }
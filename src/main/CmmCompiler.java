@@ -1,7 +1,17 @@
 package main;
 
-import main.visitor.*;
+import main.assembler.*;
+import main.cache.CompilationCache;
+import main.cache.CompilerFingerprint;
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxErrorCollector;
+import main.parsing.HandWrittenLexer;
+import main.parsing.ParallelProgramParser;
+import main.parsing.ProgramParser;
+import main.runner.*;
+import main.utils.OutputRedirector;
 import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.codeGenerator.IncrementalBuild;
 import main.visitor.name.*;
 import main.visitor.type.*;
 import parsers.*;
@@ -10,62 +20,386 @@ import org.antlr.v4.runtime.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Future;
 
 public class CmmCompiler {
-    public void compile(CharStream textStream) {
-        System.out.println("\n--------------------------Compiling--------------------------");
-        CmmLexer cmmLexer = new CmmLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
-        CmmParser cmmParser = new CmmParser(tokenStream);
-        Program program = cmmParser.cmm().cmmProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
-
-        NameAnalyser nameAnalyser = new NameAnalyser();
+    public static final String VERSION = "4.1";
+    private final JasminAssembler assembler;
+    private final ProgramRunner programRunner = new ProgramRunner();
+    private boolean runInProcess = false;
+    private boolean inMemory = false;
+    private boolean runProgram = true;
+    private String outputPath = "output/";
+    private CompilationCache cache;
+    private IncrementalBuild incrementalBuild;
+    private boolean quiet = false;
+    private File jarFile;
+    private boolean captureOutput = true;
+    private boolean twoStageParsing = true;
+    private boolean lowMemory = false;
+    private boolean parallelParsing = false;
+    private boolean handWrittenLexer = false;
+    private boolean profileParser = false;
+    private File outputTee;
+    private File errorTee;
+
+    public CmmCompiler() {
+        this(JasminAssembler.getDefault());
+    }
+
+    public CmmCompiler(JasminAssembler assembler) {
+        this.assembler = assembler;
+    }
+
+    public void setRunInProcess(boolean runInProcess) {
+        this.runInProcess = runInProcess;
+    }
+
+    public void setInMemory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public void setJarFile(File jarFile) {
+        this.jarFile = jarFile;
+    }
+
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
+    public void setHandWrittenLexer(boolean handWrittenLexer) {
+        this.handWrittenLexer = handWrittenLexer;
+    }
+
+    public void setProfileParser(boolean profileParser) {
+        this.profileParser = profileParser;
+    }
+
+    public void setCaptureOutput(boolean captureOutput) {
+        this.captureOutput = captureOutput;
+    }
+
+    public void setOutputTee(File outputTee) {
+        this.outputTee = outputTee;
+    }
+
+    public void setErrorTee(File errorTee) {
+        this.errorTee = errorTee;
+    }
+
+    public void setRunTimeout(long timeoutMillis) {
+        programRunner.setTimeoutMillis(timeoutMillis);
+    }
+
+    public void setRunProgram(boolean runProgram) {
+        this.runProgram = runProgram;
+    }
+
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public void setCache(CompilationCache cache) {
+        this.cache = cache;
+    }
+
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
+    public CompilationResult compile(String source) {
+        return compile(CharStreams.fromString(source));
+    }
+
+    public void setIncrementalBuild(IncrementalBuild incrementalBuild) {
+        this.incrementalBuild = incrementalBuild;
+    }
+
+    public CompilationResult compile(CharStream textStream) {
+        CompilationResult compilationResult = new CompilationResult();
+        CompilationStats stats = compilationResult.getStats();
+        CompilationContext context = new CompilationContext();
+        context.setOutputPath(outputPath);
+        println("\n--------------------------Compiling--------------------------");
+        long start = System.nanoTime();
+        String cacheKey = null;
+        if (cache != null && !lowMemory) {
+            cacheKey = cache.keyOf(textStream, CompilerFingerprint.get());
+            Map<String, byte[]> classes = cache.get(cacheKey);
+            start = lap(stats, "cacheLookup", start);
+            if (classes != null) {
+                println("Compilation successful (cached)");
+                restoreClassFiles(context, compilationResult, classes);
+                writeJar(compilationResult);
+                start = lap(stats, "restore", start);
+                runProgram(context, compilationResult);
+                lap(stats, "run", start);
+                return compilationResult;
+            }
+        }
+        SyntaxErrorCollector syntaxErrorCollector = new SyntaxErrorCollector(compilationResult.getDiagnostics());
+        ProgramParser programParser = new ProgramParser();
+        programParser.setProfile(profileParser);
+        Program program = null;
+        if (lowMemory) {
+            program = programParser.parseUnbuffered(textStream, syntaxErrorCollector);
+            start = lap(stats, "parsing", start);
+        } else {
+            TokenSource tokenSource;
+            if (handWrittenLexer) {
+                HandWrittenLexer lexer = new HandWrittenLexer(textStream);
+                lexer.setErrorListener(syntaxErrorCollector);
+                tokenSource = lexer;
+            } else {
+                CmmLexer cmmLexer = new CmmLexer(textStream);
+                cmmLexer.removeErrorListeners();
+                cmmLexer.addErrorListener(syntaxErrorCollector);
+                tokenSource = cmmLexer;
+            }
+            CommonTokenStream tokenStream = new CommonTokenStream(tokenSource);
+            tokenStream.fill();
+            start = lap(stats, "lexing", start);
+            if (parallelParsing && !profileParser && compilationResult.getDiagnostics().isEmpty()) {
+                program = new ParallelProgramParser().parse(tokenStream);
+                start = lap(stats, "parallelParsing", start);
+            }
+            if (program == null) {
+                programParser.setTwoStage(twoStageParsing);
+                program = programParser.parse(tokenStream, syntaxErrorCollector);
+                start = lap(stats, "parsing", start);
+            }
+        }
+        compilationResult.setParserProfile(programParser.getParserProfile());
+        if (!compilationResult.getDiagnostics().isEmpty()) {
+            for (CompileError syntaxError : compilationResult.getDiagnostics())
+                println(syntaxError.getMessage());
+            compilationResult.setNumberOfErrors(compilationResult.getDiagnostics().size());
+            return compilationResult;
+        }
+        NameAnalyser nameAnalyser = new NameAnalyser(context);
         program.accept(nameAnalyser);
+        start = lap(stats, "nameAnalysis", start);
 
-        int numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+        int numberOfErrors = context.flushErrors(compilationResult.getDiagnostics(), quiet ? null : System.out);
+        start = lap(stats, "nameErrorReport", start);
+        compilationResult.setNumberOfErrors(numberOfErrors);
+        if(numberOfErrors > 0) {
+            stats.setSymbolLookups(context.getSymbolLookups());
+            return compilationResult;
+        }
 
-        TypeChecker typeChecker = new TypeChecker();
+        TypeChecker typeChecker = new TypeChecker(context);
         program.accept(typeChecker);
+        stats.setAstNodes(typeChecker.getVisitedNodes());
+        start = lap(stats, "typeChecking", start);
 
-        numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+        numberOfErrors = context.flushErrors(compilationResult.getDiagnostics(), quiet ? null : System.out);
+        start = lap(stats, "typeErrorReport", start);
+        compilationResult.setNumberOfErrors(numberOfErrors);
+        if(numberOfErrors > 0) {
+            stats.setSymbolLookups(context.getSymbolLookups());
+            return compilationResult;
+        }
 
-        CodeGenerator codeGenerator = new CodeGenerator();
+        CodeGenerator codeGenerator = new CodeGenerator(context);
+        codeGenerator.setInMemory(isGeneratedInMemory());
+        codeGenerator.setIncrementalBuild(incrementalBuild);
+        if (incrementalBuild != null)
+            incrementalBuild.begin();
+        File dir = new File(context.getOutputPath());
+        Map<String, Future<AssemblyResult>> pending = new HashMap<>();
+        Map<String, byte[]> reused = new HashMap<>();
+        codeGenerator.setClassListener(className -> {
+            byte[] classBytes = incrementalBuild == null ? null : incrementalBuild.reuseClass(className);
+            if (classBytes != null)
+                reused.put(className, classBytes);
+            else if (isGeneratedInMemory())
+                pending.put(className, assembler.submit(className + ".j", codeGenerator.getGeneratedFile(className)));
+            else
+                pending.put(className, assembler.submit(new File(dir, className + ".j")));
+        });
         program.accept(codeGenerator);
+        start = lap(stats, "codeGeneration", start);
+        stats.setSymbolLookups(context.getSymbolLookups());
+        stats.setEmittedInstructions(codeGenerator.getEmittedInstructions());
 
-        System.out.println("Compilation successful");
+        println("Compilation successful");
 
-        runJasminFiles();
+        generateClassFiles(dir, compilationResult, pending, reused);
+        writeJar(compilationResult);
+        if (cacheKey != null && compilationResult.isAssembled())
+            cache.put(cacheKey, compilationResult.getClasses());
+        start = lap(stats, "assembly", start);
+        runProgram(context, compilationResult);
+        lap(stats, "run", start);
+        return compilationResult;
     }
 
-    private void runJasminFiles() {
+    private boolean isGeneratedInMemory() {
+        return inMemory || jarFile != null;
+    }
+
+    private void writeJar(CompilationResult compilationResult) {
+        if (jarFile == null || !compilationResult.isAssembled())
+            return;
         try {
-            System.out.println("\n-------------------Generating Class Files-------------------");
-            File dir = new File("./output");
-            Process process = Runtime.getRuntime().exec("java -jar jasmin.jar *.j", null, dir);
-            printResults(process.getInputStream());
-            printResults(process.getErrorStream());
-            System.out.println("\n---------------------------Output---------------------------");
-            process = Runtime.getRuntime().exec("java Main", null, dir);
-            printResults(process.getInputStream());
-            printResults(process.getErrorStream());
+            Map<String, byte[]> classes = new HashMap<>(RuntimeLibrary.getClasses());
+            classes.putAll(compilationResult.getClasses());
+            ClassArchive.write(jarFile, classes, ProgramRunner.MAIN_CLASS);
+            compilationResult.setJarFile(jarFile);
+            println("Archived: " + jarFile.getPath());
         } catch (IOException e) {
-            e.printStackTrace();
+            println(jarFile.getPath() + ": " + e.getMessage());
         }
     }
 
-    private void printResults(InputStream stream) {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
-        String line;
-        try {
-            while ((line = reader.readLine()) != null)
-                System.out.println(line);
-        } catch (IOException e) {
-            e.printStackTrace();
+    private long lap(CompilationStats stats, String phase, long start) {
+        long now = System.nanoTime();
+        stats.addPhase(phase, now - start);
+        return now;
+    }
+
+    private void generateClassFiles(File dir, CompilationResult compilationResult,
+                                    Map<String, Future<AssemblyResult>> pending, Map<String, byte[]> reused) {
+        println("\n-------------------Generating Class Files-------------------");
+        ArrayList<String> classNames = new ArrayList<>(pending.keySet());
+        classNames.addAll(reused.keySet());
+        classNames.sort(String.CASE_INSENSITIVE_ORDER);
+
+        ArrayList<AssemblyResult> assembled = new ArrayList<>();
+        for (String className : classNames) {
+            AssemblyResult result;
+            if (reused.containsKey(className)) {
+                result = new AssemblyResult(className + ".j");
+                result.setClassName(className);
+                result.setClassBytes(reused.get(className));
+            } else {
+                result = assembler.collect(pending.get(className), className + ".j");
+                assembled.add(result);
+            }
+            if (!isGeneratedInMemory() && result.isSuccessful())
+                assembler.writeClassFile(dir, result);
+            compilationResult.addAssemblyResult(result);
+            if (result.isSuccessful())
+                println((reused.containsKey(className) ? "Reused: " : "Generated: ") + result.getClassName() + ".class");
+            else {
+                print(result.getMessages());
+                if (result.getException() != null)
+                    println(result.getSourceName() + ": " + result.getException().getMessage());
+            }
+        }
+        if (incrementalBuild != null)
+            incrementalBuild.commit(assembled);
+    }
+
+    private void restoreClassFiles(CompilationContext context, CompilationResult compilationResult,
+                                   Map<String, byte[]> classes) {
+        println("\n-------------------Generating Class Files-------------------");
+        File dir = new File(context.getOutputPath());
+        if (!isGeneratedInMemory()) {
+            File[] files = dir.listFiles();
+            if (files != null)
+                for (File file : files)
+                    file.delete();
+            dir.mkdirs();
+        }
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            AssemblyResult result = new AssemblyResult(entry.getKey() + ".j");
+            result.setClassName(entry.getKey());
+            result.setClassBytes(entry.getValue());
+            if (!isGeneratedInMemory())
+                assembler.writeClassFile(dir, result);
+            compilationResult.addAssemblyResult(result);
+            println("Restored: " + entry.getKey() + ".class");
+        }
+    }
+
+    private void runProgram(CompilationContext context, CompilationResult compilationResult) {
+        if (!runProgram)
+            return;
+        println("\n---------------------------Output---------------------------");
+        if (runInProcess || inMemory) {
+            ExecutionResult executionResult = programRunner.run(compilationResult.getClasses());
+            compilationResult.setExecutionResult(executionResult);
+            print(executionResult.getOutput());
+            print(executionResult.getErrors());
+            try {
+                writeTee(outputTee, executionResult.getOutput());
+                writeTee(errorTee, executionResult.getErrors());
+            } catch (IOException e) {
+                println(e.getMessage());
+            }
+            return;
+        }
+        ExecutionResult executionResult = new ExecutionResult();
+        compilationResult.setExecutionResult(executionResult);
+        ByteArrayOutputStream output = captureOutput ? new ByteArrayOutputStream() : null;
+        ByteArrayOutputStream errors = captureOutput ? new ByteArrayOutputStream() : null;
+        long start = System.nanoTime();
+        try (OutputStream outputFile = openTee(outputTee); OutputStream errorFile = openTee(errorTee)) {
+            Process process;
+            if (jarFile != null)
+                process = Runtime.getRuntime().exec(new String[]{"java", "-cp", jarFile.getAbsolutePath(), ProgramRunner.MAIN_CLASS});
+            else
+                process = Runtime.getRuntime().exec(new String[]{"java", "-cp",
+                        "." + File.pathSeparator + RuntimeLibrary.getJarFile(), ProgramRunner.MAIN_CLASS},
+                        null, new File(context.getOutputPath()));
+            process.getOutputStream().close();
+            StreamForwarder outputForwarder = forward(process.getInputStream(), OutputRedirector.currentOut(), output, outputFile);
+            StreamForwarder errorForwarder = forward(process.getErrorStream(), OutputRedirector.currentErr(), errors, errorFile);
+            outputForwarder.start("cmm-stdout");
+            errorForwarder.start("cmm-stderr");
+            executionResult.setExitCode(process.waitFor());
+            outputForwarder.await();
+            errorForwarder.await();
+        } catch (IOException | InterruptedException e) {
+            executionResult.setException(e);
+            if (!quiet)
+                e.printStackTrace();
+        }
+        executionResult.setElapsedNanos(System.nanoTime() - start);
+        if (output != null) {
+            executionResult.setOutput(output.toString());
+            executionResult.setErrors(errors.toString());
+        }
+    }
+
+    private StreamForwarder forward(InputStream source, OutputStream console, OutputStream capture, OutputStream tee) {
+        StreamForwarder forwarder = new StreamForwarder(source);
+        if (!quiet)
+            forwarder.addSink(console);
+        forwarder.addSink(capture);
+        forwarder.addSink(tee);
+        return forwarder;
+    }
+
+    private OutputStream openTee(File tee) throws IOException {
+        return tee == null ? null : new BufferedOutputStream(new FileOutputStream(tee), 1 << 16);
+    }
+
+    private void writeTee(File tee, String text) throws IOException {
+        if (tee == null)
+            return;
+        try (Writer writer = new FileWriter(tee)) {
+            writer.write(text);
         }
     }
+
+    private void println(String line) {
+        if (!quiet)
+            System.out.println(line);
+    }
+
+    private void print(String text) {
+        if (!quiet)
+            System.out.print(text);
+    }
 }
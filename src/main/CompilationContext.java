@@ -0,0 +1,65 @@
+package main;
+
+import main.compileError.CompileError;
+import main.compileError.DiagnosticsSink;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.Stack;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CompilationContext {
+    private SymbolTable root;
+    private SymbolTable top;
+    private final Stack<SymbolTable> stack = new Stack<>();
+    private String outputPath = "output/";
+    private final AtomicLong symbolLookups = new AtomicLong();
+    private DiagnosticsSink diagnostics;
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+    public void setRoot(SymbolTable root) {
+        if (root != null)
+            root.setLookups(symbolLookups);
+        this.root = root;
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public void push(SymbolTable symbolTable) {
+        if (top != null)
+            stack.push(top);
+        if (symbolTable != null)
+            symbolTable.setLookups(symbolLookups);
+        top = symbolTable;
+    }
+
+    public void pop() {
+        top = stack.pop();
+    }
+
+    public void addError(CompileError error) {
+        if (diagnostics == null)
+            diagnostics = new DiagnosticsSink();
+        diagnostics.add(error);
+    }
+
+    public int flushErrors(List<CompileError> collected, PrintStream out) {
+        return diagnostics == null ? 0 : diagnostics.flush(collected, out);
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public long getSymbolLookups() {
+        return symbolLookups.get();
+    }
+}
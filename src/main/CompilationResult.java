@@ -0,0 +1,90 @@
+package main;
+
+import main.assembler.AssemblyResult;
+import main.compileError.CompileError;
+import main.parsing.ParserProfile;
+import main.runner.ExecutionResult;
+
+import java.io.File;
+import java.util.*;
+
+public class CompilationResult {
+    private final ArrayList<AssemblyResult> assemblyResults = new ArrayList<>();
+    private ExecutionResult executionResult;
+    private int numberOfErrors = 0;
+    private final CompilationStats stats = new CompilationStats();
+    private final ArrayList<CompileError> diagnostics = new ArrayList<>();
+    private File jarFile;
+    private ParserProfile parserProfile;
+
+    public int getNumberOfErrors() {
+        return numberOfErrors;
+    }
+    public void setNumberOfErrors(int numberOfErrors) {
+        this.numberOfErrors = numberOfErrors;
+    }
+
+    public ArrayList<CompileError> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public ArrayList<AssemblyResult> getAssemblyResults() {
+        return assemblyResults;
+    }
+    public void addAssemblyResult(AssemblyResult assemblyResult) {
+        assemblyResults.add(assemblyResult);
+    }
+
+    public Map<String, byte[]> getClasses() {
+        Map<String, byte[]> classes = new HashMap<>();
+        for (AssemblyResult assemblyResult : assemblyResults)
+            if (assemblyResult.isSuccessful())
+                classes.put(assemblyResult.getClassName(), assemblyResult.getClassBytes());
+        return classes;
+    }
+
+    public ArrayList<File> getClassFiles() {
+        ArrayList<File> classFiles = new ArrayList<>();
+        for (AssemblyResult assemblyResult : assemblyResults)
+            if (assemblyResult.getClassFile() != null)
+                classFiles.add(assemblyResult.getClassFile());
+        return classFiles;
+    }
+
+    public File getJarFile() {
+        return jarFile;
+    }
+    public void setJarFile(File jarFile) {
+        this.jarFile = jarFile;
+    }
+
+    public ParserProfile getParserProfile() {
+        return parserProfile;
+    }
+    public void setParserProfile(ParserProfile parserProfile) {
+        this.parserProfile = parserProfile;
+    }
+
+    public boolean isAssembled() {
+        for (AssemblyResult assemblyResult : assemblyResults)
+            if (!assemblyResult.isSuccessful())
+                return false;
+        return true;
+    }
+
+    public ExecutionResult getExecutionResult() {
+        return executionResult;
+    }
+    public void setExecutionResult(ExecutionResult executionResult) {
+        this.executionResult = executionResult;
+    }
+
+    public CompilationStats getStats() {
+        return stats;
+    }
+
+    public boolean isSuccessful() {
+        return numberOfErrors == 0 && isAssembled() &&
+                (executionResult == null || executionResult.isSuccessful());
+    }
+}
@@ -0,0 +1,74 @@
+package main;
+
+import java.util.*;
+
+public class CompilationStats {
+    private final LinkedHashMap<String, Long> phases = new LinkedHashMap<>();
+    private long astNodes = 0;
+    private long symbolLookups = 0;
+    private long emittedInstructions = 0;
+
+    public void addPhase(String phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    public Map<String, Long> getPhases() {
+        return phases;
+    }
+
+    public long getTotalNanos() {
+        long total = 0;
+        for (long nanos : phases.values())
+            total += nanos;
+        return total;
+    }
+
+    public long getAstNodes() {
+        return astNodes;
+    }
+    public void setAstNodes(long astNodes) {
+        this.astNodes = astNodes;
+    }
+
+    public long getSymbolLookups() {
+        return symbolLookups;
+    }
+    public void setSymbolLookups(long symbolLookups) {
+        this.symbolLookups = symbolLookups;
+    }
+
+    public long getEmittedInstructions() {
+        return emittedInstructions;
+    }
+    public void setEmittedInstructions(long emittedInstructions) {
+        this.emittedInstructions = emittedInstructions;
+    }
+
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, Long> phase : phases.entrySet())
+            report.append(String.format(Locale.ROOT, "%-22s %10.3f ms%n", phase.getKey(), phase.getValue() / 1e6));
+        report.append(String.format(Locale.ROOT, "%-22s %10.3f ms%n", "total", getTotalNanos() / 1e6));
+        report.append(String.format(Locale.ROOT, "%-22s %10d%n", "AST nodes", astNodes));
+        report.append(String.format(Locale.ROOT, "%-22s %10d%n", "symbol lookups", symbolLookups));
+        report.append(String.format(Locale.ROOT, "%-22s %10d%n", "emitted instructions", emittedInstructions));
+        return report.toString();
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"compilerVersion\":\"").append(CmmCompiler.VERSION).append("\",\"phases\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            if (!first)
+                json.append(',');
+            json.append('"').append(phase.getKey()).append("\":").append(phase.getValue());
+            first = false;
+        }
+        json.append("},\"totalNanos\":").append(getTotalNanos());
+        json.append(",\"astNodes\":").append(astNodes);
+        json.append(",\"symbolLookups\":").append(symbolLookups);
+        json.append(",\"emittedInstructions\":").append(emittedInstructions);
+        return json.append('}').toString();
+    }
+}
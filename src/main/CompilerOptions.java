@@ -0,0 +1,115 @@
+package main;
+
+import main.cache.CompilationCache;
+import main.parsing.MappedCharStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+public class CompilerOptions {
+    private boolean runInProcess = false;
+    private boolean inMemory = false;
+    private boolean lowMemory = false;
+    private boolean parallelParsing = false;
+    private boolean handWrittenLexer = false;
+    private boolean profileParser = false;
+    private boolean twoStageParsing = true;
+    private CompilationCache cache;
+    private String stats;
+    private File jarFile;
+    private File outputTee;
+    private File errorTee;
+
+    public void setRunInProcess(boolean runInProcess) {
+        this.runInProcess = runInProcess;
+    }
+
+    public void setInMemory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    public void setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+    }
+
+    public void setHandWrittenLexer(boolean handWrittenLexer) {
+        this.handWrittenLexer = handWrittenLexer;
+    }
+
+    public void setProfileParser(boolean profileParser) {
+        this.profileParser = profileParser;
+    }
+
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    public CompilationCache getCache() {
+        return cache;
+    }
+    public void setCache(CompilationCache cache) {
+        this.cache = cache;
+    }
+
+    public void setStats(String stats) {
+        this.stats = stats;
+    }
+
+    public File getJarFile() {
+        return jarFile;
+    }
+    public void setJarFile(File jarFile) {
+        this.jarFile = jarFile;
+    }
+
+    public boolean hasOutputTees() {
+        return outputTee != null || errorTee != null;
+    }
+    public void setOutputTee(File outputTee) {
+        this.outputTee = outputTee;
+    }
+    public void setErrorTee(File errorTee) {
+        this.errorTee = errorTee;
+    }
+
+    public void configure(CmmCompiler cmmCompiler) {
+        cmmCompiler.setRunInProcess(runInProcess);
+        cmmCompiler.setInMemory(inMemory);
+        cmmCompiler.setLowMemory(lowMemory);
+        cmmCompiler.setParallelParsing(parallelParsing);
+        cmmCompiler.setHandWrittenLexer(handWrittenLexer);
+        cmmCompiler.setProfileParser(profileParser);
+        cmmCompiler.setTwoStageParsing(twoStageParsing);
+        cmmCompiler.setCache(cache);
+        cmmCompiler.setJarFile(jarFile);
+        cmmCompiler.setOutputTee(outputTee);
+        cmmCompiler.setErrorTee(errorTee);
+    }
+
+    public CharStream open(String fileName) throws IOException {
+        if (lowMemory)
+            return new UnbufferedCharStream(new FileInputStream(fileName), 4096, StandardCharsets.UTF_8);
+        return MappedCharStream.open(fileName);
+    }
+
+    public void report(CompilationResult result, PrintStream out) {
+        if (result.getParserProfile() != null)
+            out.print("\n--------------------------Parser profile--------------------------\n"
+                    + result.getParserProfile().toReport());
+        if (stats == null)
+            return;
+        if (stats.equals("json"))
+            out.println("\n" + result.getStats().toJson());
+        else
+            out.print("\n---------------------------Stats----------------------------\n" + result.getStats().toReport());
+    }
+}
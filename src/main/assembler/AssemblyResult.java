@@ -0,0 +1,67 @@
+package main.assembler;
+
+import java.io.File;
+
+public class AssemblyResult {
+    private final String sourceName;
+    private String className;
+    private byte[] classBytes;
+    private int errorCount = 0;
+    private String messages = "";
+    private Exception exception;
+    private File classFile;
+
+    public AssemblyResult(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public byte[] getClassBytes() {
+        return classBytes;
+    }
+    public void setClassBytes(byte[] classBytes) {
+        this.classBytes = classBytes;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+    public void setErrorCount(int errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public String getMessages() {
+        return messages;
+    }
+    public void setMessages(String messages) {
+        this.messages = messages;
+    }
+
+    public Exception getException() {
+        return exception;
+    }
+    public void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    public File getClassFile() {
+        return classFile;
+    }
+    public void setClassFile(File classFile) {
+        this.classFile = classFile;
+    }
+
+    public boolean isSuccessful() {
+        return errorCount == 0 && exception == null && classBytes != null;
+    }
+}
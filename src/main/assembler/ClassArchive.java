@@ -0,0 +1,27 @@
+package main.assembler;
+
+import java.io.*;
+import java.util.*;
+import java.util.jar.*;
+
+public class ClassArchive {
+    public static void write(File jarFile, Map<String, byte[]> classes, String mainClass) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+
+        ArrayList<String> classNames = new ArrayList<>(classes.keySet());
+        classNames.sort(String.CASE_INSENSITIVE_ORDER);
+        File parent = jarFile.getAbsoluteFile().getParentFile();
+        if (parent != null)
+            parent.mkdirs();
+        try (JarOutputStream jar = new JarOutputStream(
+                new BufferedOutputStream(new FileOutputStream(jarFile), 1 << 16), manifest)) {
+            for (String className : classNames) {
+                jar.putNextEntry(new JarEntry(className + ".class"));
+                jar.write(classes.get(className));
+                jar.closeEntry();
+            }
+        }
+    }
+}
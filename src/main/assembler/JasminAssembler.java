@@ -0,0 +1,125 @@
+package main.assembler;
+
+import jasmin.ClassFile;
+import main.utils.OutputRedirector;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class JasminAssembler {
+    private static JasminAssembler defaultAssembler;
+    private final ExecutorService workers;
+
+    public static synchronized JasminAssembler getDefault() {
+        if (defaultAssembler == null)
+            defaultAssembler = new JasminAssembler();
+        return defaultAssembler;
+    }
+
+    public JasminAssembler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public JasminAssembler(int threads) {
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jasmin-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public AssemblyResult assemble(String sourceName, Reader source) {
+        AssemblyResult result = new AssemblyResult(sourceName);
+        ByteArrayOutputStream messages = new ByteArrayOutputStream();
+        OutputRedirector.redirect(messages, messages);
+        try {
+            ClassFile classFile = new ClassFile();
+            classFile.readJasmin(source, sourceName, false);
+            result.setClassName(classFile.getClassName());
+            result.setErrorCount(classFile.errorCount());
+            if (classFile.errorCount() == 0) {
+                ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+                classFile.write(classBytes);
+                result.setClassBytes(classBytes.toByteArray());
+            }
+        } catch (Exception e) {
+            result.setException(e);
+        } finally {
+            OutputRedirector.restore();
+            result.setMessages(messages.toString());
+        }
+        return result;
+    }
+
+    public Future<AssemblyResult> submit(File jasminFile) {
+        return workers.submit(() -> {
+            try (Reader reader = new BufferedReader(new FileReader(jasminFile))) {
+                return assemble(jasminFile.getName(), reader);
+            }
+        });
+    }
+
+    public Future<AssemblyResult> submit(String sourceName, String source) {
+        return workers.submit(() -> assemble(sourceName, new StringReader(source)));
+    }
+
+    public ArrayList<AssemblyResult> assembleSources(Map<String, String> sources) {
+        ArrayList<String> names = new ArrayList<>(sources.keySet());
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+
+        ArrayList<Future<AssemblyResult>> futures = new ArrayList<>();
+        for (String name : names)
+            futures.add(submit(name + ".j", sources.get(name)));
+
+        ArrayList<AssemblyResult> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++)
+            results.add(collect(futures.get(i), names.get(i) + ".j"));
+        return results;
+    }
+
+    public ArrayList<AssemblyResult> assembleDirectory(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".j"));
+        ArrayList<File> jasminFiles = new ArrayList<>();
+        if (files != null)
+            jasminFiles.addAll(Arrays.asList(files));
+        jasminFiles.sort((first, second) -> String.CASE_INSENSITIVE_ORDER.compare(first.getName(), second.getName()));
+
+        ArrayList<Future<AssemblyResult>> futures = new ArrayList<>();
+        for (File jasminFile : jasminFiles)
+            futures.add(submit(jasminFile));
+
+        ArrayList<AssemblyResult> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            AssemblyResult result = collect(futures.get(i), jasminFiles.get(i).getName());
+            if (result.isSuccessful())
+                writeClassFile(directory, result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    public AssemblyResult collect(Future<AssemblyResult> future, String sourceName) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            AssemblyResult result = new AssemblyResult(sourceName);
+            result.setException(e);
+            return result;
+        }
+    }
+
+    public void writeClassFile(File directory, AssemblyResult result) {
+        File classFile = new File(directory, result.getClassName() + ".class");
+        try (OutputStream stream = new FileOutputStream(classFile)) {
+            stream.write(result.getClassBytes());
+            result.setClassFile(classFile);
+        } catch (IOException e) {
+            result.setException(e);
+        }
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,136 @@
+package main.batch;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.CompilerOptions;
+import main.assembler.JasminAssembler;
+import main.utils.OutputRedirector;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class BatchCompiler {
+    private final JasminAssembler assembler = new JasminAssembler();
+    private String outputRoot = "output/";
+    private CompilerOptions options = new CompilerOptions();
+
+    private static class BatchEntry {
+        File source;
+        String outputPath;
+        boolean successful;
+        long elapsedNanos;
+    }
+
+    public void setOptions(CompilerOptions options) {
+        this.options = options;
+    }
+
+    public void setOutputRoot(String outputRoot) {
+        this.outputRoot = outputRoot;
+    }
+
+    private void collect(File file, ArrayList<File> sources) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children == null)
+                return;
+            Arrays.sort(children);
+            for (File child : children)
+                if (child.isDirectory() || child.getName().endsWith(".cmm"))
+                    collect(child, sources);
+        } else
+            sources.add(file);
+    }
+
+    private ArrayList<BatchEntry> plan(ArrayList<String> paths) {
+        ArrayList<File> sources = new ArrayList<>();
+        for (String path : paths)
+            collect(new File(path), sources);
+
+        Set<String> usedNames = new HashSet<>();
+        ArrayList<BatchEntry> entries = new ArrayList<>();
+        for (File source : sources) {
+            String name = source.getName().replaceAll("\\.cmm$", "");
+            String uniqueName = name;
+            for (int i = 2; !usedNames.add(uniqueName); i++)
+                uniqueName = name + "_" + i;
+            BatchEntry entry = new BatchEntry();
+            entry.source = source;
+            entry.outputPath = outputRoot + uniqueName + "/";
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private BatchEntry compile(BatchEntry entry) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        OutputRedirector.redirect(output, output);
+        try {
+            CmmCompiler cmmCompiler = new CmmCompiler(assembler);
+            options.configure(cmmCompiler);
+            cmmCompiler.setOutputPath(entry.outputPath);
+            cmmCompiler.setRunInProcess(true);
+            if (options.getJarFile() != null)
+                cmmCompiler.setJarFile(new File(entry.outputPath, options.getJarFile().getName()));
+            CompilationResult result = cmmCompiler.compile(options.open(entry.source.getPath()));
+            options.report(result, System.out);
+            entry.successful = result.isSuccessful();
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        } finally {
+            OutputRedirector.restore();
+            entry.elapsedNanos = System.nanoTime() - start;
+        }
+        File directory = new File(entry.outputPath);
+        directory.mkdirs();
+        try (OutputStream stream = new FileOutputStream(new File(directory, "output.txt"))) {
+            output.writeTo(stream);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return entry;
+    }
+
+    private double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0)
+            return 0;
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+
+    public boolean compileAll(ArrayList<String> paths) {
+        ArrayList<BatchEntry> entries = plan(paths);
+        ArrayList<Callable<BatchEntry>> tasks = new ArrayList<>();
+        for (BatchEntry entry : entries)
+            tasks.add(() -> compile(entry));
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        long start = System.nanoTime();
+        try {
+            pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int failed = 0;
+        long[] latencies = new long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            BatchEntry entry = entries.get(i);
+            latencies[i] = entry.elapsedNanos;
+            if (!entry.successful)
+                failed++;
+            System.out.println(String.format("%s: %s (%.2fms) -> %s", entry.source.getPath(),
+                    entry.successful ? "ok" : "failed", entry.elapsedNanos / 1e6, entry.outputPath));
+        }
+        Arrays.sort(latencies);
+        System.out.println(String.format("\nCompiled %d files (%d failed) in %.2fs: %.2f files/sec, p50 %.2fms, p99 %.2fms",
+                entries.size(), failed, seconds, seconds > 0 ? entries.size() / seconds : 0,
+                percentile(latencies, 0.5), percentile(latencies, 0.99)));
+        return failed == 0;
+    }
+}
@@ -0,0 +1,70 @@
+package main.benchmark;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+public class Benchmark {
+    private static volatile Object sink;
+    private final String name;
+    private int warmupIterations = Integer.getInteger("benchmark.warmup", 5);
+    private int measuredIterations = Integer.getInteger("benchmark.iterations", 10);
+
+    public static class Measurement {
+        private final String label;
+        private final long[] nanos;
+
+        private Measurement(String label, long[] nanos) {
+            this.label = label;
+            this.nanos = nanos;
+            Arrays.sort(this.nanos);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public double getMedianMillis() {
+            return nanos[nanos.length / 2] / 1e6;
+        }
+
+        public double getMinMillis() {
+            return nanos[0] / 1e6;
+        }
+
+        public double getMaxMillis() {
+            return nanos[nanos.length - 1] / 1e6;
+        }
+    }
+
+    public Benchmark(String name) {
+        this.name = name;
+    }
+
+    public void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+
+    public void setMeasuredIterations(int measuredIterations) {
+        this.measuredIterations = measuredIterations;
+    }
+
+    public Measurement measure(String label, Supplier<?> body) {
+        for (int i = 0; i < warmupIterations; i++)
+            sink = body.get();
+        long[] nanos = new long[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            long start = System.nanoTime();
+            sink = body.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Measurement measurement = new Measurement(label, nanos);
+        System.out.println(String.format(Locale.ROOT, "%-12s %-40s median %10.3f ms  min %10.3f ms  max %10.3f ms",
+                name, label, measurement.getMedianMillis(), measurement.getMinMillis(), measurement.getMaxMillis()));
+        return measurement;
+    }
+
+    public static void compare(Measurement baseline, Measurement candidate) {
+        System.out.println(String.format(Locale.ROOT, "%-53s speedup %6.2fx", candidate.getLabel() + " vs " + baseline.getLabel(),
+                baseline.getMedianMillis() / candidate.getMedianMillis()));
+    }
+}
@@ -0,0 +1,77 @@
+package main.benchmark;
+
+import main.CmmCompiler;
+import main.assembler.JasminAssembler;
+import main.utils.OutputRedirector;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class ConcurrencyBenchmark {
+    private static final JasminAssembler assembler = new JasminAssembler();
+
+    public static void main(String[] args) throws Exception {
+        File directory = new File(args.length > 0 ? args[0] : "samples");
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".cmm"));
+        if (files == null || files.length == 0) {
+            System.out.println("No .cmm files in " + directory.getPath());
+            System.exit(1);
+        }
+        Arrays.sort(files);
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (File file : files)
+            sources.put(file.getName(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        Map<String, byte[]> expected = new LinkedHashMap<>();
+        for (Map.Entry<String, String> source : sources.entrySet())
+            expected.put(source.getKey(), compile(source.getValue()));
+        double sequentialMillis = (System.nanoTime() - start) / 1e6;
+
+        ArrayList<String> order = new ArrayList<>();
+        for (int round = 0; round < rounds; round++)
+            order.addAll(sources.keySet());
+        Collections.shuffle(order, new Random(42));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ArrayList<Future<byte[]>> futures = new ArrayList<>();
+        start = System.nanoTime();
+        for (String name : order)
+            futures.add(pool.submit(() -> compile(sources.get(name))));
+        int mismatches = 0;
+        for (int i = 0; i < order.size(); i++) {
+            byte[] actual = futures.get(i).get();
+            if (!Arrays.equals(expected.get(order.get(i)), actual)) {
+                mismatches++;
+                System.out.println("Mismatch: " + order.get(i) + " (compilation " + (i + 1) + ")");
+            }
+        }
+        double concurrentMillis = (System.nanoTime() - start) / 1e6;
+        pool.shutdown();
+
+        System.out.printf(Locale.ROOT, "sequential: %d compilations in %.1f ms%n", sources.size(), sequentialMillis);
+        System.out.printf(Locale.ROOT, "concurrent: %d compilations on %d threads in %.1f ms, %d mismatches%n",
+                order.size(), threads, concurrentMillis, mismatches);
+        if (mismatches > 0)
+            System.exit(1);
+    }
+
+    private static byte[] compile(String source) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OutputRedirector.redirect(output, output);
+        try {
+            CmmCompiler cmmCompiler = new CmmCompiler(assembler);
+            cmmCompiler.setInMemory(true);
+            cmmCompiler.compile(CharStreams.fromString(source));
+        } finally {
+            OutputRedirector.restore();
+        }
+        return output.toByteArray();
+    }
+}
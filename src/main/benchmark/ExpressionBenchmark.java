@@ -0,0 +1,72 @@
+package main.benchmark;
+
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxErrorCollector;
+import main.parsing.ProgramParser;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.*;
+import parsers.CmmLexer;
+import parsers.CmmParser;
+
+import java.util.*;
+
+public class ExpressionBenchmark {
+    public static void main(String[] args) {
+        LinkedHashMap<String, String> inputs = new LinkedHashMap<>();
+        inputs.put("expressions 20x50", ProgramGenerator.expressionHeavy(20, 50));
+        inputs.put("expressions 100x200", ProgramGenerator.expressionHeavy(100, 200));
+        inputs.put("nested depth 500", ProgramGenerator.nestedExpression(500));
+
+        Benchmark benchmark = new Benchmark("expressions");
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            CommonTokenStream tokenStream = lex(input.getValue());
+            countRules(input.getKey(), tokenStream);
+            benchmark.measure(input.getKey() + " parse", () -> {
+                tokenStream.seek(0);
+                return new ProgramParser().parse(tokenStream, null);
+            });
+        }
+    }
+
+    private static CommonTokenStream lex(String source) {
+        CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+        cmmLexer.removeErrorListeners();
+        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
+        tokenStream.fill();
+        return tokenStream;
+    }
+
+    private static void countRules(String name, CommonTokenStream tokenStream) {
+        ArrayList<CompileError> errors = new ArrayList<>();
+        CmmParser cmmParser = new CmmParser(tokenStream);
+        cmmParser.setBuildParseTree(false);
+        cmmParser.removeErrorListeners();
+        cmmParser.addErrorListener(new SyntaxErrorCollector(errors));
+        int[] invocations = new int[1];
+        cmmParser.addParseListener(new ParseTreeListener() {
+            @Override
+            public void enterEveryRule(ParserRuleContext ctx) {
+                invocations[0]++;
+            }
+
+            @Override
+            public void visitTerminal(TerminalNode node) {
+            }
+
+            @Override
+            public void visitErrorNode(ErrorNode node) {
+            }
+
+            @Override
+            public void exitEveryRule(ParserRuleContext ctx) {
+            }
+        });
+        cmmParser.cmm();
+        if (!errors.isEmpty())
+            throw new IllegalStateException(name + ": " + errors.get(0).getMessage());
+        int tokens = tokenStream.size();
+        tokenStream.seek(0);
+        System.out.printf(Locale.ROOT, "%s: %d tokens, %d rule invocations, %.2f per token%n",
+                name, tokens, invocations[0], (double) invocations[0] / tokens);
+    }
+}
@@ -0,0 +1,93 @@
+package main.benchmark;
+
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxErrorCollector;
+import main.parsing.HandWrittenLexer;
+import org.antlr.v4.runtime.*;
+import parsers.CmmLexer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class LexerBenchmark {
+    public static void main(String[] args) throws IOException {
+        LinkedHashMap<String, String> inputs = new LinkedHashMap<>();
+        File[] samples = new File(args.length > 0 ? args[0] : "samples").listFiles((dir, name) -> name.endsWith(".cmm"));
+        if (samples != null) {
+            Arrays.sort(samples);
+            StringBuilder allSamples = new StringBuilder();
+            for (File sample : samples)
+                allSamples.append(new String(Files.readAllBytes(sample.toPath()), StandardCharsets.UTF_8)).append('\n');
+            inputs.put("samples", allSamples.toString());
+        }
+        inputs.put("edge cases", "main(){\r\n\tint x0 = 0012 /* a\n comment */ -> == = - $ mainx _a9 displayed\n/* open");
+        inputs.put("generated 10x100", ProgramGenerator.generate(10, 100));
+        inputs.put("generated 50x1000", ProgramGenerator.generate(50, 1000));
+
+        long warmupEnd = System.nanoTime() + 2_000_000_000L;
+        while (System.nanoTime() < warmupEnd)
+            for (String source : inputs.values()) {
+                lex(new CmmLexer(CharStreams.fromString(source)));
+                lex(new HandWrittenLexer(CharStreams.fromString(source)));
+            }
+
+        Benchmark benchmark = new Benchmark("lex");
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            checkEquivalent(input.getKey(), input.getValue());
+            Benchmark.Measurement generated = benchmark.measure(input.getKey() + " CmmLexer",
+                    () -> lex(new CmmLexer(CharStreams.fromString(input.getValue()))));
+            Benchmark.Measurement handWritten = benchmark.measure(input.getKey() + " hand-written",
+                    () -> lex(new HandWrittenLexer(CharStreams.fromString(input.getValue()))));
+            Benchmark.compare(generated, handWritten);
+        }
+    }
+
+    private static int lex(TokenSource tokenSource) {
+        if (tokenSource instanceof Lexer)
+            ((Lexer) tokenSource).removeErrorListeners();
+        int count = 0;
+        while (tokenSource.nextToken().getType() != Token.EOF)
+            count++;
+        return count;
+    }
+
+    private static List<String> describe(TokenSource tokenSource) {
+        ArrayList<String> description = new ArrayList<>();
+        Token token;
+        do {
+            token = tokenSource.nextToken();
+            description.add(token.getType() + " " + token.getStartIndex() + ":" + token.getStopIndex() + " "
+                    + token.getLine() + ":" + token.getCharPositionInLine() + " " + token.getText());
+        } while (token.getType() != Token.EOF);
+        return description;
+    }
+
+    private static void checkEquivalent(String name, String source) {
+        ArrayList<CompileError> generatedErrors = new ArrayList<>();
+        CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+        cmmLexer.removeErrorListeners();
+        cmmLexer.addErrorListener(new SyntaxErrorCollector(generatedErrors));
+        List<String> generated = describe(cmmLexer);
+
+        ArrayList<CompileError> handWrittenErrors = new ArrayList<>();
+        HandWrittenLexer handWrittenLexer = new HandWrittenLexer(CharStreams.fromString(source));
+        handWrittenLexer.setErrorListener(new SyntaxErrorCollector(handWrittenErrors));
+        List<String> handWritten = describe(handWrittenLexer);
+
+        for (int i = 0; i < Math.min(generated.size(), handWritten.size()); i++)
+            if (!generated.get(i).equals(handWritten.get(i)))
+                throw new IllegalStateException(name + ": token " + i + " differs, expected " + generated.get(i)
+                        + " but got " + handWritten.get(i));
+        if (generated.size() != handWritten.size())
+            throw new IllegalStateException(name + ": expected " + generated.size() + " tokens but got " + handWritten.size());
+        for (int i = 0; i < generatedErrors.size(); i++)
+            if (handWrittenErrors.size() <= i || !generatedErrors.get(i).getMessage().equals(handWrittenErrors.get(i).getMessage()))
+                throw new IllegalStateException(name + ": lexer errors differ");
+        if (generatedErrors.size() != handWrittenErrors.size())
+            throw new IllegalStateException(name + ": lexer errors differ");
+        System.out.println(name + ": identical token streams, " + generated.size() + " tokens, "
+                + generatedErrors.size() + " lexer errors");
+    }
+}
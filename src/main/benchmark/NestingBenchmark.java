@@ -0,0 +1,60 @@
+package main.benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.parsing.ProgramParser;
+import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.name.NameAnalyser;
+import main.visitor.type.TypeChecker;
+import org.antlr.v4.runtime.*;
+import parsers.CmmLexer;
+
+import java.util.Locale;
+
+public class NestingBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        Thread thread = new Thread(null, NestingBenchmark::run, "nesting", 1L << 30);
+        thread.start();
+        thread.join();
+    }
+
+    private static void run() {
+        Benchmark benchmark = new Benchmark("nesting");
+        Benchmark.Measurement previousCheck = null;
+        Benchmark.Measurement previousGenerate = null;
+        for (int depth = 500; depth <= 8000; depth *= 2) {
+            Program program = parse(ProgramGenerator.nestedExpression(depth));
+            Benchmark.Measurement check = benchmark.measure("depth " + depth + " type check",
+                    () -> check(program));
+            Benchmark.Measurement generate = benchmark.measure("depth " + depth + " check and generate",
+                    () -> generate(program, check(program)));
+            if (previousCheck != null)
+                System.out.printf(Locale.ROOT, "depth %-5d growth for 2x depth: type check %5.2fx, code generation %5.2fx%n",
+                        depth, check.getMedianMillis() / previousCheck.getMedianMillis(),
+                        (generate.getMedianMillis() - check.getMedianMillis())
+                                / (previousGenerate.getMedianMillis() - previousCheck.getMedianMillis()));
+            previousCheck = check;
+            previousGenerate = generate;
+        }
+    }
+
+    private static Program parse(String source) {
+        CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+        cmmLexer.removeErrorListeners();
+        return new ProgramParser().parse(new CommonTokenStream(cmmLexer), null);
+    }
+
+    private static CompilationContext check(Program program) {
+        CompilationContext context = new CompilationContext();
+        program.accept(new NameAnalyser(context));
+        program.accept(new TypeChecker(context));
+        return context;
+    }
+
+    private static String generate(Program program, CompilationContext context) {
+        CodeGenerator codeGenerator = new CodeGenerator(context);
+        codeGenerator.setInMemory(true);
+        program.accept(codeGenerator);
+        return codeGenerator.getGeneratedFile("Main");
+    }
+}
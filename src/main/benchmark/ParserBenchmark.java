@@ -0,0 +1,116 @@
+package main.benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxErrorCollector;
+import main.parsing.ParallelProgramParser;
+import main.parsing.ProgramParser;
+import main.visitor.codeGenerator.DeclarationFingerprinter;
+import main.visitor.name.NameAnalyser;
+import org.antlr.v4.runtime.*;
+import parsers.CmmLexer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class ParserBenchmark {
+    public static void main(String[] args) throws IOException {
+        LinkedHashMap<String, String> inputs = new LinkedHashMap<>();
+        File[] samples = new File(args.length > 0 ? args[0] : "samples").listFiles((dir, name) -> name.endsWith(".cmm"));
+        if (samples != null) {
+            Arrays.sort(samples);
+            StringBuilder allSamples = new StringBuilder();
+            for (File sample : samples)
+                allSamples.append(new String(Files.readAllBytes(sample.toPath()), StandardCharsets.UTF_8)).append('\u0000');
+            inputs.put("samples", allSamples.toString());
+        }
+        inputs.put("generated 10x100", ProgramGenerator.generate(10, 100));
+        inputs.put("generated 50x1000", ProgramGenerator.generate(50, 1000));
+        inputs.put("generated 50x1000 unindented", ProgramGenerator.generate(50, 1000).replaceAll("(?m)^[ \t]+", ""));
+
+        Benchmark benchmark = new Benchmark("parse");
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            String[] sources = input.getValue().split("\u0000");
+            checkEquivalent(input.getKey(), sources);
+            Benchmark.Measurement ll = benchmark.measure(input.getKey() + " LL", () -> parseAll(sources, false));
+            Benchmark.Measurement twoStage = benchmark.measure(input.getKey() + " SLL then LL", () -> parseAll(sources, true));
+            Benchmark.compare(ll, twoStage);
+            if (sources.length == 1) {
+                Benchmark.Measurement parallel = benchmark.measure(input.getKey() + " parallel",
+                        () -> parseParallel(sources[0]));
+                Benchmark.compare(twoStage, parallel);
+            }
+        }
+    }
+
+    private static List<Program> parseAll(String[] sources, boolean twoStage) {
+        ArrayList<Program> programs = new ArrayList<>();
+        for (String source : sources)
+            programs.add(parse(source, twoStage, new ArrayList<>()));
+        return programs;
+    }
+
+    private static Program parse(String source, boolean twoStage, List<CompileError> errors) {
+        ProgramParser programParser = new ProgramParser();
+        programParser.setTwoStage(twoStage);
+        return parse(source, programParser, errors);
+    }
+
+    private static Program parse(String source, ProgramParser programParser, List<CompileError> errors) {
+        CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+        cmmLexer.removeErrorListeners();
+        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
+        return programParser.parse(tokenStream, new SyntaxErrorCollector(errors));
+    }
+
+    private static Program parseParallel(String source) {
+        CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+        cmmLexer.removeErrorListeners();
+        return new ParallelProgramParser().parse(new CommonTokenStream(cmmLexer));
+    }
+
+    private static void checkEquivalent(String name, String[] sources) {
+        int fallbacks = 0;
+        int sequential = 0;
+        for (String source : sources) {
+            ArrayList<CompileError> llErrors = new ArrayList<>();
+            ArrayList<CompileError> twoStageErrors = new ArrayList<>();
+            ProgramParser twoStageParser = new ProgramParser();
+            List<String> ll = describe(parse(source, false, llErrors), llErrors);
+            List<String> twoStage = describe(parse(source, twoStageParser, twoStageErrors), twoStageErrors);
+            if (!ll.equals(twoStage))
+                throw new IllegalStateException(name + ": SLL then LL produced a different AST or errors");
+            if (twoStageParser.isFullContextUsed())
+                fallbacks++;
+            Program parallel = parseParallel(source);
+            if (parallel == null)
+                sequential++;
+            else if (!ll.equals(describe(parallel, new ArrayList<>())))
+                throw new IllegalStateException(name + ": parallel parsing produced a different AST");
+        }
+        System.out.println(name + ": identical ASTs and errors, " + fallbacks + " of " + sources.length
+                + " inputs fell back to LL, " + sequential + " fell back from parallel to sequential parsing");
+    }
+
+    public static List<String> describe(Program program, List<CompileError> errors) {
+        ArrayList<String> description = new ArrayList<>();
+        for (CompileError error : errors)
+            description.add(error.getMessage());
+        if (!errors.isEmpty())
+            return description;
+        CompilationContext context = new CompilationContext();
+        program.accept(new NameAnalyser(context));
+        DeclarationFingerprinter fingerprinter = new DeclarationFingerprinter(context);
+        for (StructDeclaration structDeclaration : program.getStructs())
+            description.add(structDeclaration.getLine() + " " + fingerprinter.fingerprint(structDeclaration));
+        for (FunctionDeclaration functionDeclaration : program.getFunctions())
+            description.add(functionDeclaration.getLine() + " " + fingerprinter.fingerprint(functionDeclaration));
+        description.add(program.getMain().getLine() + " " + fingerprinter.fingerprint(program.getMain()));
+        return description;
+    }
+}
@@ -0,0 +1,88 @@
+package main.benchmark;
+
+public class ProgramGenerator {
+    private final StringBuilder source = new StringBuilder();
+
+    public static String generate(int structs, int functions) {
+        ProgramGenerator generator = new ProgramGenerator();
+        for (int i = 0; i < structs; i++)
+            generator.addStruct(i);
+        for (int i = 0; i < functions; i++)
+            generator.addFunction(i, structs);
+        generator.addMain(functions);
+        return generator.source.toString();
+    }
+
+    public static String nestedExpression(int depth) {
+        StringBuilder expression = new StringBuilder("a");
+        for (int i = 0; i < depth; i++) {
+            String operator = i % 3 == 0 ? " + " : i % 3 == 1 ? " * " : " - ";
+            expression.insert(0, "(").append(operator).append(i % 7 + 1).append(")");
+        }
+        return "int f(int a)\n    return " + expression + ";\n\nmain()\n    display(f(1));\n";
+    }
+
+    public static String expressionHeavy(int functions, int statements) {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < functions; i++) {
+            source.append("int e").append(i).append("(int a, int b) begin\n");
+            source.append("    int y = a\n");
+            source.append("    bool c = a > b\n");
+            source.append("    list #int l\n");
+            for (int j = 0; j < statements; j++) {
+                source.append("    y = y + a * ").append(j % 9 + 1).append(" - b / 2 + (a - b) * (y + 1) - size(l) * 2\n");
+                source.append("    c = a > b & y < ").append(j).append(" | a == b & true | c & (y + 1) * 2 > a - b\n");
+            }
+            source.append("    return y;\n");
+            source.append("end\n\n");
+        }
+        source.append("main() begin\n");
+        source.append("    display(").append(functions > 0 ? "e0(1, 2)" : "0").append(");\n");
+        source.append("end\n");
+        return source.toString();
+    }
+
+    private void addStruct(int index) {
+        source.append("struct S").append(index).append(" begin\n");
+        source.append("    int x\n");
+        source.append("    bool flag;\n");
+        source.append("    list #int values\n");
+        source.append("end\n\n");
+    }
+
+    private void addFunction(int index, int structs) {
+        source.append("int f").append(index).append("(int a, int b) begin\n");
+        source.append("    int x = a + b * 2\n");
+        source.append("    int y\n");
+        source.append("    list #int l\n");
+        source.append("    y = (x - a) / 3 + b;\n");
+        source.append("    if (x > y & a == b | true)\n");
+        source.append("        y = y + 1\n");
+        source.append("    else\n");
+        source.append("        y = y - 1\n");
+        source.append("    while y > 100 begin\n");
+        source.append("        append(l, y)\n");
+        source.append("        y = y / 2;\n");
+        source.append("    end\n");
+        if (structs > 0) {
+            String struct = "S" + index % structs;
+            source.append("    struct ").append(struct).append(" s\n");
+            source.append("    s.x = x * (0 - y)\n");
+            source.append("    append(s.values, s.x)\n");
+            source.append("    display(size(s.values) + s.values[0]);\n");
+        }
+        if (index > 0)
+            source.append("    y = y + f").append(index - 1).append("(x, size(l));\n");
+        source.append("    display(y);\n");
+        source.append("    return x + y;\n");
+        source.append("end\n\n");
+    }
+
+    private void addMain(int functions) {
+        source.append("main() begin\n");
+        if (functions > 0)
+            source.append("    display(f").append(functions - 1).append("(1, 2));\n");
+        source.append("    display(true);\n");
+        source.append("end\n");
+    }
+}
@@ -0,0 +1,88 @@
+package main.benchmark;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import parsers.CmmBaseListener;
+import parsers.CmmLexer;
+import parsers.CmmParser;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public class StatementBenchmark {
+    private static final Set<String> statementRules = new HashSet<>(Arrays.asList("singleStatement",
+            "functionCallStmt", "assignmentStatement", "expressionStatement", "ifStatement", "elseStatement",
+            "blockStatement", "body", "loopCondBody"));
+
+    public static void main(String[] args) throws IOException {
+        LinkedHashMap<String, String> inputs = new LinkedHashMap<>();
+        File[] samples = new File(args.length > 0 ? args[0] : "samples").listFiles((dir, name) -> name.endsWith(".cmm"));
+        if (samples != null) {
+            Arrays.sort(samples);
+            for (File sample : samples)
+                inputs.put(sample.getName(), new String(Files.readAllBytes(sample.toPath()), StandardCharsets.UTF_8));
+        }
+        inputs.put("generated 50x1000", ProgramGenerator.generate(50, 1000));
+        inputs.put("expressions 100x50", ProgramGenerator.expressionHeavy(100, 50));
+
+        for (PredictionMode mode : new PredictionMode[]{PredictionMode.SLL, PredictionMode.LL}) {
+            long statements = 0;
+            long statementNanos = 0;
+            long statementLook = 0;
+            long totalNanos = 0;
+            long fallbacks = 0;
+            int failures = 0;
+            TreeMap<String, long[]> rules = new TreeMap<>();
+            for (int round = 0; round < Integer.getInteger("benchmark.warmup", 5) + 1; round++) {
+                statements = statementNanos = statementLook = totalNanos = fallbacks = 0;
+                failures = 0;
+                rules.clear();
+                for (String source : inputs.values()) {
+                    CmmLexer cmmLexer = new CmmLexer(CharStreams.fromString(source));
+                    cmmLexer.removeErrorListeners();
+                    CmmParser cmmParser = new CmmParser(new CommonTokenStream(cmmLexer));
+                    cmmParser.setBuildParseTree(false);
+                    cmmParser.removeErrorListeners();
+                    cmmParser.setProfile(true);
+                    cmmParser.getInterpreter().setPredictionMode(mode);
+                    int[] statementCount = new int[1];
+                    cmmParser.addParseListener(new CmmBaseListener() {
+                        @Override
+                        public void exitSingleStatement(CmmParser.SingleStatementContext ctx) {
+                            statementCount[0]++;
+                        }
+                    });
+                    cmmParser.cmm();
+                    statements += statementCount[0];
+                    if (cmmParser.getNumberOfSyntaxErrors() > 0)
+                        failures++;
+                    for (DecisionInfo decision : cmmParser.getParseInfo().getDecisionInfo()) {
+                        totalNanos += decision.timeInPrediction;
+                        fallbacks += decision.LL_Fallback;
+                        int ruleIndex = cmmParser.getATN().getDecisionState(decision.decision).ruleIndex;
+                        long[] rule = rules.computeIfAbsent(cmmParser.getRuleNames()[ruleIndex], name -> new long[3]);
+                        rule[0] += decision.timeInPrediction;
+                        rule[1] += decision.SLL_TotalLook + decision.LL_TotalLook;
+                        rule[2] += decision.LL_Fallback;
+                        if (!statementRules.contains(cmmParser.getRuleNames()[ruleIndex]))
+                            continue;
+                        statementNanos += decision.timeInPrediction;
+                        statementLook += decision.SLL_TotalLook + decision.LL_TotalLook;
+                    }
+                }
+            }
+            System.out.printf(Locale.ROOT, "%-4s %d statements, %.1f tokens lookahead and %.0f ns prediction per statement, "
+                            + "%.1f ms prediction in total, %d LL fallbacks, %d of %d inputs with syntax errors%n",
+                    mode, statements, (double) statementLook / statements, (double) statementNanos / statements,
+                    totalNanos / 1e6, fallbacks, failures, inputs.size());
+            rules.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                    .limit(5)
+                    .forEach(rule -> System.out.printf(Locale.ROOT, "     %-22s %8.1f ms prediction %9d tokens lookahead %6d LL fallbacks%n",
+                            rule.getKey(), rule.getValue()[0] / 1e6, rule.getValue()[1], rule.getValue()[2]));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package main.cache;
+
+import main.parsing.MappedCharStream;
+import main.utils.Hashing;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CompilationCache {
+    private static final String ENTRY_SUFFIX = ".classes";
+    private final File directory;
+    private final long maxBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CompilationCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        directory.mkdirs();
+    }
+
+    public String keyOf(String source, String compilerFingerprint) {
+        return Hashing.sha256(compilerFingerprint, source);
+    }
+
+    public String keyOf(CharStream source, String compilerFingerprint) {
+        if (source instanceof MappedCharStream)
+            return Hashing.sha256(compilerFingerprint, ((MappedCharStream) source).getBytes());
+        return keyOf(source.getText(Interval.of(0, source.size() - 1)), compilerFingerprint);
+    }
+
+    public Map<String, byte[]> get(String key) {
+        File entry = new File(directory, key + ENTRY_SUFFIX);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+            Map<String, byte[]> classes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String className = in.readUTF();
+                byte[] classBytes = new byte[in.readInt()];
+                in.readFully(classBytes);
+                classes.put(className, classBytes);
+            }
+            entry.setLastModified(System.currentTimeMillis());
+            hits.incrementAndGet();
+            return classes;
+        } catch (IOException e) {
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    public void put(String key, Map<String, byte[]> classes) {
+        try {
+            File temporary = File.createTempFile(key, ".tmp", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+                out.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+            }
+            Files.move(temporary.toPath(), new File(directory, key + ENTRY_SUFFIX).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            return;
+        }
+        evict();
+    }
+
+    private synchronized void evict() {
+        File[] entries = directory.listFiles((dir, name) -> name.endsWith(ENTRY_SUFFIX));
+        if (entries == null)
+            return;
+        long totalBytes = 0;
+        for (File entry : entries)
+            totalBytes += entry.length();
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < entries.length && totalBytes > maxBytes; i++) {
+            long length = entries[i].length();
+            if (entries[i].delete())
+                totalBytes -= length;
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
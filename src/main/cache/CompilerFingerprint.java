@@ -0,0 +1,70 @@
+package main.cache;
+
+import main.CmmCompiler;
+import main.runner.RuntimeLibrary;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+public class CompilerFingerprint {
+    private static String fingerprint;
+
+    public static synchronized String get() {
+        if (fingerprint != null)
+            return fingerprint;
+        CRC32 crc = new CRC32();
+        Adler32 adler = new Adler32();
+        Set<File> locations = new LinkedHashSet<>();
+        locations.add(locationOf(CmmCompiler.class));
+        locations.add(locationOf(jasmin.ClassFile.class));
+        locations.add(RuntimeLibrary.getJarFile());
+        try {
+            for (File location : locations)
+                update(crc, adler, location);
+            fingerprint = CmmCompiler.VERSION + "-" + Long.toHexString(crc.getValue() << 32 | adler.getValue());
+        } catch (IOException e) {
+            fingerprint = CmmCompiler.VERSION + "-unknown-" + System.nanoTime();
+        }
+        return fingerprint;
+    }
+
+    private static File locationOf(Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource == null)
+            return null;
+        try {
+            return Paths.get(codeSource.getLocation().toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void update(CRC32 crc, Adler32 adler, File location) throws IOException {
+        if (location == null)
+            return;
+        if (!location.isDirectory()) {
+            byte[] bytes = Files.readAllBytes(location.toPath());
+            crc.update(bytes);
+            adler.update(bytes);
+            return;
+        }
+        File[] children = location.listFiles();
+        if (children == null)
+            return;
+        Arrays.sort(children);
+        for (File child : children) {
+            if (!child.isDirectory() && !child.getName().endsWith(".class"))
+                continue;
+            byte[] name = child.getName().getBytes();
+            crc.update(name);
+            adler.update(name);
+            update(crc, adler, child);
+        }
+    }
+}
@@ -9,6 +9,10 @@ public class CompileError extends Exception {
         this.message = message;
     }
 
+    public int getLine() {
+        return line;
+    }
+
     public String getMessage() {
         return "Line " + line + ": " + message;
     }
@@ -0,0 +1,36 @@
+package main.compileError;
+
+import java.io.*;
+import java.util.*;
+
+public class DiagnosticsSink {
+    private final ArrayList<CompileError> errors = new ArrayList<>();
+
+    public void add(CompileError error) {
+        errors.add(error);
+    }
+
+    public int size() {
+        return errors.size();
+    }
+
+    public int flush(List<CompileError> collected, PrintStream out) {
+        errors.sort(Comparator.comparingInt(CompileError::getLine));
+        if (collected != null)
+            collected.addAll(errors);
+        if (out != null) {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out));
+            try {
+                for (CompileError error : errors) {
+                    writer.write(error.getMessage());
+                    writer.newLine();
+                }
+                writer.flush();
+            } catch (IOException ignored) {//unreachable
+            }
+        }
+        int count = errors.size();
+        errors.clear();
+        return count;
+    }
+}
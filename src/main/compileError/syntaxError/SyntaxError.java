@@ -0,0 +1,9 @@
+package main.compileError.syntaxError;
+
+import main.compileError.CompileError;
+
+public class SyntaxError extends CompileError {
+    public SyntaxError(int line, int column, String message) {
+        super(line, "Syntax error at column " + column + ": " + message);
+    }
+}
@@ -0,0 +1,20 @@
+package main.compileError.syntaxError;
+
+import main.compileError.CompileError;
+import org.antlr.v4.runtime.*;
+
+import java.util.List;
+
+public class SyntaxErrorCollector extends BaseErrorListener {
+    private final List<CompileError> errors;
+
+    public SyntaxErrorCollector(List<CompileError> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        errors.add(new SyntaxError(line, charPositionInLine, msg));
+    }
+}
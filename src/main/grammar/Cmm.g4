@@ -159,12 +159,11 @@ blockStatement returns[BlockStmt blockStatementRet]:
     b = BEGIN{
     $blockStatementRet.setLine($b.getLine());
     }
-    (NEWLINE+ (s1 = singleStatement{
+    (NEWLINE+ s1 = singleStatement{
     $blockStatementRet.addStatement($s1.singleStatementRet);
-    } SEMICOLON)*
-    s2 = singleStatement{
+    } (SEMICOLON s2 = singleStatement{
     $blockStatementRet.addStatement($s2.singleStatementRet);
-    } (SEMICOLON)?)+ NEWLINE+ END;
+    })* (SEMICOLON)?)+ NEWLINE+ END;
 
 
 varDecStatement returns[VarDecStmt varDecStatementRet]:
@@ -174,36 +173,16 @@ varDecStatement returns[VarDecStmt varDecStatementRet]:
     newVarDec.setLine($id1.identifierRet.getLine());
     $varDecStatementRet.setLine(newVarDec.getLine());
     }
-    (ASSIGN exp1 = orExpression {newVarDec.setDefaultValue($exp1.orExprRet);})?
+    (ASSIGN exp1 = binaryExpression {newVarDec.setDefaultValue($exp1.binaryExprRet);})?
     {$varDecStatementRet.addVar(newVarDec);}
     (COMMA id2 = identifier{
     newVarDec = new VariableDeclaration($id2.identifierRet, $t.typeRet);
     newVarDec.setLine($id2.identifierRet.getLine());
     }
-    (ASSIGN exp2 = orExpression{newVarDec.setDefaultValue($exp2.orExprRet);})?
+    (ASSIGN exp2 = binaryExpression{newVarDec.setDefaultValue($exp2.binaryExprRet);})?
     {$varDecStatementRet.addVar(newVarDec);} )*;
 
 
-functionCallStmt returns[FunctionCallStmt functionCallStmtRet]
-    locals [Expression expr, FunctionCall fcall]:
-
-     oth = otherExpression
-     {$expr = $oth.expr;}
-     ((l = LPAR f = functionArguments RPAR
-     {$expr = new FunctionCall($expr, $f.funcArgRet);
-      $expr.setLine($l.getLine());}
-     ) | (DOT i = identifier
-      {$expr = new StructAccess($expr, $i.identifierRet);
-       $expr.setLine($i.line);}
-     ))* (ll = LPAR ff = functionArguments RPAR
-     {$fcall = new FunctionCall($expr, $ff.funcArgRet);
-      $fcall.setLine($ll.getLine());}
-     )
-     {$functionCallStmtRet = new FunctionCallStmt($fcall);
-      $functionCallStmtRet.setLine($fcall.getLine());}
-     ;
-
-
 returnStatement returns[ReturnStmt returnStatementRet]:
     {$returnStatementRet = new ReturnStmt();}
     r = RETURN {$returnStatementRet.setLine($r.getLine());}
@@ -214,12 +193,14 @@ ifStatement returns[ConditionalStmt ifStatementRet]:
     cond = IF exp = expression
     {$ifStatementRet = new ConditionalStmt($exp.exprRet);
      $ifStatementRet.setLine($cond.getLine());}
-    (body1 = loopCondBody
-    {$ifStatementRet.setThenBody($body1.stmtRet);}
-    | body2 = body
-    {$ifStatementRet.setThenBody($body2.bodyRet);}
-    elsest = elseStatement
-    {$ifStatementRet.setElseBody($elsest.stmt);}
+    (b = blockStatement
+    {$ifStatementRet.setThenBody($b.blockStatementRet);}
+    (elsest = elseStatement
+    {$ifStatementRet.setElseBody($elsest.stmt);})?
+    | NEWLINE+ s = singleStatement
+    {$ifStatementRet.setThenBody($s.singleStatementRet);}
+    (SEMICOLON? elsest = elseStatement
+    {$ifStatementRet.setElseBody($elsest.stmt);})?
     );
 
 
@@ -266,34 +247,38 @@ displayStatement returns[DisplayStmt displayStatementRet]:
   RPAR;
 
 
-assignmentStatement returns[AssignmentStmt assignmentStatementRet]:
-    left = orExpression a = ASSIGN right = expression
-    {$assignmentStatementRet = new AssignmentStmt($left.orExprRet, $right.exprRet);
-     $assignmentStatementRet.setLine($a.getLine());}
-    ;
+expressionStatement returns[Statement statementRet]
+    locals [Expression expr]:
+    left = binaryExpression
+    {$expr = $left.binaryExprRet;}
+    (a = ASSIGN right = expression
+    {$statementRet = new AssignmentStmt($expr, $right.exprRet);
+     $statementRet.setLine($a.getLine());}
+    | {if ($expr instanceof FunctionCall)
+           $statementRet = new FunctionCallStmt((FunctionCall) $expr);
+       else if ($expr instanceof ListAppend)
+           $statementRet = new ListAppendStmt((ListAppend) $expr);
+       else if ($expr instanceof ListSize)
+           $statementRet = new ListSizeStmt((ListSize) $expr);
+       else
+           notifyErrorListeners($left.start, "expected an assignment, function call, append or size statement", null);
+       if ($statementRet != null)
+           $statementRet.setLine($expr.getLine());}
+    );
 
 
 singleStatement returns[Statement singleStatementRet]:
     i = ifStatement {$singleStatementRet = $i.ifStatementRet;}
     | d = displayStatement {$singleStatementRet = $d.displayStatementRet;}
-    | f = functionCallStmt {$singleStatementRet = $f.functionCallStmtRet;}
     | r = returnStatement {$singleStatementRet = $r.returnStatementRet;}
-    | a = assignmentStatement {$singleStatementRet = $a.assignmentStatementRet;}
     | v = varDecStatement {$singleStatementRet = $v.varDecStatementRet;}
     | l = loopStatement {$singleStatementRet = $l.loopStatementRet;}
-    | ap = append
-    {ListAppendStmt listAppend = new ListAppendStmt($ap.appendRet);
-     listAppend.setLine($ap.line);
-     $singleStatementRet = listAppend;}
-    | s = size
-    {ListSizeStmt listSize = new ListSizeStmt($s.sizeRet);
-     listSize.setLine($s.line);
-     $singleStatementRet = listSize;}
+    | e = expressionStatement {$singleStatementRet = $e.statementRet;}
     ;
 
 
 expression returns[Expression exprRet]:
-    expl = orExpression {$exprRet = $expl.orExprRet;}
+    expl = binaryExpression {$exprRet = $expl.binaryExprRet;}
     (op = ASSIGN expr = expression {
         BinaryOperator opr = BinaryOperator.assign;
         $exprRet = new BinaryExpression($exprRet, $expr.exprRet, opr);
@@ -302,96 +287,58 @@ expression returns[Expression exprRet]:
     ;
 
 
-orExpression returns[Expression orExprRet]:
-    expl = andExpression {$orExprRet = $expl.andExprRet;}
-    (op = OR expr = andExpression{
-        BinaryOperator opr = BinaryOperator.or;
-        $orExprRet = new BinaryExpression($orExprRet, $expr.andExprRet, opr);
-        $orExprRet.setLine($op.getLine());
-    })*
-    ;
-
-
-andExpression returns[Expression andExprRet]:
-    expl = equalityExpression {$andExprRet = $expl.equalityExprRet;}
-    (op = AND expr = equalityExpression{
-        BinaryOperator opr = BinaryOperator.and;
-        $andExprRet = new BinaryExpression($andExprRet, $expr.equalityExprRet, opr);
-        $andExprRet.setLine($op.getLine());
-    })*;
-
-
-equalityExpression returns[Expression equalityExprRet]:
-    expl = relationalExpression {$equalityExprRet = $expl.relationalExprRet;}
-    (op = EQUAL expr = relationalExpression{
-        BinaryOperator opr = BinaryOperator.eq;
-        $equalityExprRet = new BinaryExpression($equalityExprRet, $expr.relationalExprRet, opr);
-        $equalityExprRet.setLine($op.getLine());
-    })*;
-
-
-relationalExpression returns [Expression relationalExprRet]
-    locals [BinaryOperator op, int line]:
-    l = additiveExpression
-    {$relationalExprRet = $l.expr;}
-    ((op1 = GREATER_THAN
-    {$op = BinaryOperator.gt;
-    $line = $op1.getLine();}
-    | op2 = LESS_THAN
-    {$op = BinaryOperator.lt;
-     $line = $op2.getLine();}
-    ) r = additiveExpression
-    {$relationalExprRet = new BinaryExpression($relationalExprRet,$r.expr,$op);
-     $relationalExprRet.setLine($line);}
-    )*;
-
-
-additiveExpression returns [Expression expr]
-    locals [BinaryOperator op, int line]:
-    l = multiplicativeExpression
-    {$expr = $l.expr;}
-    ((op1 = PLUS
-    {$op = BinaryOperator.add;
+binaryExpression returns [Expression binaryExprRet]
+    locals [BinaryOperator op, UnaryOperator unaryOp, int line]:
+    (op1 = NOT
+    {$unaryOp = UnaryOperator.not;
      $line = $op1.getLine();}
     | op2 = MINUS
-    {$op = BinaryOperator.sub;
+    {$unaryOp = UnaryOperator.minus;
      $line = $op2.getLine();}
-
-    ) r = multiplicativeExpression
-    {$expr = new BinaryExpression($expr,$r.expr,$op);
-     $expr.setLine($line);}
-    )*;
-
-
-multiplicativeExpression returns [Expression expr]
-    locals [BinaryOperator op, int line]:
-    l = preUnaryExpression
-    {$expr = $l.expr;}
-    ((op1 = MULT
+    ) pre = binaryExpression
+    {$binaryExprRet = new UnaryExpression($pre.binaryExprRet, $unaryOp);
+     $binaryExprRet.setLine($line);}
+    | l = binaryExpression
+    (op1 = MULT
     {$op = BinaryOperator.mult;
      $line = $op1.getLine();}
     | op2 = DIVIDE
     {$op = BinaryOperator.div;
      $line = $op2.getLine();}
-    ) r = preUnaryExpression
-    {$expr = new BinaryExpression($expr,$r.expr,$op);
-    $expr.setLine($line);}
-    )*;
-
-
-preUnaryExpression returns [Expression expr]
-    locals[UnaryOperator op, int line]:
-    ((op1 = NOT
-    {$op = UnaryOperator.not;
+    ) r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, $op);
+     $binaryExprRet.setLine($line);}
+    | l = binaryExpression
+    (op1 = PLUS
+    {$op = BinaryOperator.add;
      $line = $op1.getLine();}
     | op2 = MINUS
-    {$op = UnaryOperator.minus;
+    {$op = BinaryOperator.sub;
      $line = $op2.getLine();}
-    ) pre = preUnaryExpression
-    {$expr = new UnaryExpression($pre.expr, $op);
-     $expr.setLine($line);}
-    ) | ac = accessExpression
-    {$expr = $ac.expr;}
+    ) r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, $op);
+     $binaryExprRet.setLine($line);}
+    | l = binaryExpression
+    (op1 = GREATER_THAN
+    {$op = BinaryOperator.gt;
+     $line = $op1.getLine();}
+    | op2 = LESS_THAN
+    {$op = BinaryOperator.lt;
+     $line = $op2.getLine();}
+    ) r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, $op);
+     $binaryExprRet.setLine($line);}
+    | l = binaryExpression op1 = EQUAL r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, BinaryOperator.eq);
+     $binaryExprRet.setLine($op1.getLine());}
+    | l = binaryExpression op1 = AND r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, BinaryOperator.and);
+     $binaryExprRet.setLine($op1.getLine());}
+    | l = binaryExpression op1 = OR r = binaryExpression
+    {$binaryExprRet = new BinaryExpression($l.binaryExprRet, $r.binaryExprRet, BinaryOperator.or);
+     $binaryExprRet.setLine($op1.getLine());}
+    | ac = accessExpression
+    {$binaryExprRet = $ac.expr;}
     ;
 
 
@@ -406,13 +353,17 @@ accessExpression returns [Expression expr]:
     {$expr = new StructAccess($expr, $i.identifierRet);
      $expr.setLine($i.line);}
     ))*
+    (l = LBRACK ex = expression
+    {$expr = new ListAccessByIndex($expr, $ex.exprRet);
+     $expr.setLine($l.getLine());}
+    RBRACK
     ((l = LBRACK ex = expression
     {$expr = new ListAccessByIndex($expr, $ex.exprRet);
      $expr.setLine($l.getLine());}
     RBRACK) | (DOT i=identifier
     {$expr = new StructAccess($expr, $i.identifierRet);
      $expr.setLine($i.line);}
-    ))*;
+    ))*)?;
 
 
 otherExpression returns [Expression expr]:
@@ -431,19 +382,17 @@ otherExpression returns [Expression expr]:
     ;
 
 
-size returns [ListSize sizeRet, int line]:
+size returns [ListSize sizeRet]:
     s = SIZE LPAR ex = expression
     {$sizeRet = new ListSize($ex.exprRet);
-     $sizeRet.setLine($s.getLine());
-     $line = $s.getLine();}
+     $sizeRet.setLine($s.getLine());}
     RPAR;
 
 
-append returns [ListAppend appendRet, int line]:
+append returns [ListAppend appendRet]:
     ap = APPEND LPAR ex1 = expression COMMA ex2 = expression RPAR
     {$appendRet = new ListAppend($ex1.exprRet, $ex2.exprRet);
-     $appendRet.setLine($ap.getLine());
-     $line = $ap.getLine();}
+     $appendRet.setLine($ap.getLine());}
     ;
 
 
@@ -0,0 +1,232 @@
+package main.parsing;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import parsers.CmmLexer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class HandWrittenLexer implements TokenSource {
+    private static final HashMap<String, Integer> keywords = new HashMap<>();
+    private static final String[][] keywordsByFirstChar = new String[128][];
+    private static final int[][] keywordTypesByFirstChar = new int[128][];
+
+    static {
+        keywords.put("main", CmmLexer.MAIN);
+        keywords.put("return", CmmLexer.RETURN);
+        keywords.put("void", CmmLexer.VOID);
+        keywords.put("size", CmmLexer.SIZE);
+        keywords.put("display", CmmLexer.DISPLAY);
+        keywords.put("append", CmmLexer.APPEND);
+        keywords.put("if", CmmLexer.IF);
+        keywords.put("else", CmmLexer.ELSE);
+        keywords.put("true", CmmLexer.TRUE);
+        keywords.put("false", CmmLexer.FALSE);
+        keywords.put("begin", CmmLexer.BEGIN);
+        keywords.put("end", CmmLexer.END);
+        keywords.put("int", CmmLexer.INT);
+        keywords.put("bool", CmmLexer.BOOL);
+        keywords.put("list", CmmLexer.LIST);
+        keywords.put("struct", CmmLexer.STRUCT);
+        keywords.put("fptr", CmmLexer.FPTR);
+        keywords.put("get", CmmLexer.GET);
+        keywords.put("set", CmmLexer.SET);
+        keywords.put("while", CmmLexer.WHILE);
+        keywords.put("do", CmmLexer.DO);
+        for (Map.Entry<String, Integer> keyword : keywords.entrySet()) {
+            char first = keyword.getKey().charAt(0);
+            String[] names = keywordsByFirstChar[first] == null ? new String[0] : keywordsByFirstChar[first];
+            int[] types = keywordTypesByFirstChar[first] == null ? new int[0] : keywordTypesByFirstChar[first];
+            names = Arrays.copyOf(names, names.length + 1);
+            types = Arrays.copyOf(types, types.length + 1);
+            names[names.length - 1] = keyword.getKey();
+            types[types.length - 1] = keyword.getValue();
+            keywordsByFirstChar[first] = names;
+            keywordTypesByFirstChar[first] = types;
+        }
+    }
+
+    private final CharStream input;
+    private final Pair<TokenSource, CharStream> source;
+    private ANTLRErrorListener errorListener;
+    private TokenFactory<?> tokenFactory = CommonTokenFactory.DEFAULT;
+    private int line = 1;
+    private int lineStart = 0;
+
+    public HandWrittenLexer(CharStream input) {
+        this.input = input;
+        this.source = new Pair<>(this, input);
+    }
+
+    public void setErrorListener(ANTLRErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    @Override
+    public Token nextToken() {
+        CharStream input = this.input;
+        int c;
+        while ((c = input.LA(1)) != IntStream.EOF) {
+            int start = input.index();
+            input.consume();
+            switch (c) {
+                case ' ': case '\t': case '\r':
+                    int spaces = 1;
+                    while ((c = input.LA(spaces)) == ' ' || c == '\t' || c == '\r')
+                        spaces++;
+                    input.seek(start + spaces);
+                    continue;
+                case '\n':
+                    Token newline = token(CmmLexer.NEWLINE, start);
+                    line++;
+                    lineStart = start + 1;
+                    return newline;
+                case '/':
+                    if (input.LA(1) == '*' && skipComment())
+                        continue;
+                    return token(CmmLexer.DIVIDE, start);
+                case '=':
+                    if (input.LA(1) == '=') {
+                        input.consume();
+                        return token(CmmLexer.EQUAL, start);
+                    }
+                    return token(CmmLexer.ASSIGN, start);
+                case '-':
+                    if (input.LA(1) == '>') {
+                        input.consume();
+                        return token(CmmLexer.ARROW, start);
+                    }
+                    return token(CmmLexer.MINUS, start);
+                case '+': return token(CmmLexer.PLUS, start);
+                case '*': return token(CmmLexer.MULT, start);
+                case '>': return token(CmmLexer.GREATER_THAN, start);
+                case '<': return token(CmmLexer.LESS_THAN, start);
+                case '&': return token(CmmLexer.AND, start);
+                case '|': return token(CmmLexer.OR, start);
+                case '~': return token(CmmLexer.NOT, start);
+                case '#': return token(CmmLexer.SHARP, start);
+                case '(': return token(CmmLexer.LPAR, start);
+                case ')': return token(CmmLexer.RPAR, start);
+                case '[': return token(CmmLexer.LBRACK, start);
+                case ']': return token(CmmLexer.RBRACK, start);
+                case ',': return token(CmmLexer.COMMA, start);
+                case '.': return token(CmmLexer.DOT, start);
+                case ';': return token(CmmLexer.SEMICOLON, start);
+                case '0': return token(CmmLexer.INT_VALUE, start);
+                default:
+                    if (c >= '1' && c <= '9') {
+                        int length = 1;
+                        while ((c = input.LA(length)) >= '0' && c <= '9')
+                            length++;
+                        input.seek(start + length);
+                        return token(CmmLexer.INT_VALUE, start);
+                    }
+                    if (isIdentifierStart(c)) {
+                        int length = 1;
+                        while (isIdentifierPart(input.LA(length)))
+                            length++;
+                        int type = identifierType(c, length);
+                        input.seek(start + length);
+                        return token(type, start);
+                    }
+                    reportError(start);
+            }
+        }
+        int index = input.index();
+        return tokenFactory.create(source, Token.EOF, null, Token.DEFAULT_CHANNEL,
+                index, index - 1, line, index - lineStart);
+    }
+
+    private int identifierType(int first, int length) {
+        String[] names = keywordsByFirstChar[first];
+        if (names == null)
+            return CmmLexer.IDENTIFIER;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.length() != length)
+                continue;
+            int j = 1;
+            while (j < length && input.LA(j) == name.charAt(j))
+                j++;
+            if (j == length)
+                return keywordTypesByFirstChar[first][i];
+        }
+        return CmmLexer.IDENTIFIER;
+    }
+
+    private boolean skipComment() {
+        int offset = 2;
+        int c;
+        while ((c = input.LA(offset)) != IntStream.EOF && !(c == '*' && input.LA(offset + 1) == '/'))
+            offset++;
+        if (c == IntStream.EOF)
+            return false;
+        int start = input.index();
+        for (int i = 1; i < offset; i++)
+            if (input.LA(i) == '\n') {
+                line++;
+                lineStart = start + i;
+            }
+        input.seek(start + offset + 1);
+        return true;
+    }
+
+    private Token token(int type, int start) {
+        return tokenFactory.create(source, type, null, Token.DEFAULT_CHANNEL, start, input.index() - 1,
+                line, start - lineStart);
+    }
+
+    private void reportError(int start) {
+        if (errorListener == null)
+            return;
+        String text = input.getText(Interval.of(start, start))
+                .replace("\n", "\\n").replace("\t", "\\t").replace("\r", "\\r");
+        errorListener.syntaxError(null, null, line, start - lineStart,
+                "token recognition error at: '" + text + "'", null);
+    }
+
+    private static boolean isIdentifierStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9');
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return input.index() - lineStart;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.tokenFactory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return tokenFactory;
+    }
+}
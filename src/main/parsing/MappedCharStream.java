@@ -0,0 +1,154 @@
+package main.parsing;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+public class MappedCharStream implements CharStream {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String sourceName;
+    private int position = 0;
+    private int checked = 0;
+    private CharStream decoded;
+
+    private MappedCharStream(ByteBuffer buffer, String sourceName) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+        this.sourceName = sourceName;
+    }
+
+    public static CharStream open(String fileName) throws IOException {
+        return open(Paths.get(fileName));
+    }
+
+    public static CharStream open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > 0 && length <= Integer.MAX_VALUE)
+                return new MappedCharStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), path.toString());
+        }
+        return CharStreams.fromPath(path);
+    }
+
+    public ByteBuffer getBytes() {
+        return buffer.duplicate();
+    }
+
+    private boolean checkAscii(int end) {
+        if (decoded != null)
+            return false;
+        while (checked < end) {
+            if (buffer.get(checked) < 0) {
+                decode();
+                return false;
+            }
+            checked++;
+        }
+        return true;
+    }
+
+    private void decode() {
+        int codePoints = 0;
+        for (int i = 0; i < position; i++)
+            if ((buffer.get(i) & 0xC0) != 0x80)
+                codePoints++;
+        decoded = CharStreams.fromString(StandardCharsets.UTF_8.decode(buffer.duplicate()).toString(), sourceName);
+        decoded.seek(codePoints);
+    }
+
+    @Override
+    public void consume() {
+        if (decoded != null) {
+            decoded.consume();
+            return;
+        }
+        if (position >= size)
+            throw new IllegalStateException("cannot consume EOF");
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (decoded != null)
+            return decoded.LA(i);
+        int offset;
+        if (i > 0)
+            offset = position + i - 1;
+        else if (i < 0)
+            offset = position + i;
+        else
+            return 0;
+        if (offset < 0 || offset >= size)
+            return IntStream.EOF;
+        if (offset >= checked && !checkAscii(offset + 1))
+            return decoded.LA(i);
+        return buffer.get(offset);
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        if (decoded != null)
+            return decoded.index();
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        if (decoded != null) {
+            decoded.seek(index);
+            return;
+        }
+        position = Math.min(index, size);
+    }
+
+    @Override
+    public int size() {
+        if (!checkAscii(size))
+            return decoded.size();
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        if (!checkAscii(Math.min(interval.b + 1, size)))
+            return decoded.getText(interval);
+        int start = Math.min(interval.a, size);
+        int stop = Math.min(interval.b, size - 1);
+        if (stop < start)
+            return "";
+        byte[] text = new byte[stop - start + 1];
+        ByteBuffer range = buffer.duplicate();
+        range.position(start);
+        range.get(text);
+        return new String(text, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size() - 1));
+    }
+}
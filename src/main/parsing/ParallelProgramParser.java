@@ -0,0 +1,136 @@
+package main.parsing;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.compileError.CompileError;
+import main.compileError.syntaxError.SyntaxErrorCollector;
+import org.antlr.v4.runtime.*;
+import parsers.CmmParser;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelProgramParser {
+    private static final int MIN_CHUNK_TOKENS = 2048;
+    private static class Chunk {
+        List<Token> tokens;
+        List<Object> declarations;
+    }
+
+    public Program parse(BufferedTokenStream tokenStream) {
+        tokenStream.fill();
+        ArrayList<Chunk> chunks = split(tokenStream.getTokens());
+        boolean parsed = chunks.parallelStream()
+                .map(this::parseChunk)
+                .reduce(true, Boolean::logicalAnd);
+        if (!parsed)
+            return null;
+
+        Program program = new Program();
+        program.setLine(1);
+        MainDeclaration main = null;
+        for (Chunk chunk : chunks) {
+            for (Object declaration : chunk.declarations) {
+                if (main != null)
+                    return null;
+                if (declaration instanceof StructDeclaration) {
+                    if (!program.getFunctions().isEmpty())
+                        return null;
+                    program.addStruct((StructDeclaration) declaration);
+                } else if (declaration instanceof FunctionDeclaration)
+                    program.addFunction((FunctionDeclaration) declaration);
+                else
+                    main = (MainDeclaration) declaration;
+            }
+        }
+        if (main == null)
+            return null;
+        program.setMain(main);
+        return program;
+    }
+
+    private ArrayList<Chunk> split(List<Token> tokens) {
+        ArrayList<Chunk> chunks = new ArrayList<>();
+        int end = tokens.size();
+        int chunkSize = Math.max(MIN_CHUNK_TOKENS, end / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        if (end > 0 && tokens.get(end - 1).getType() == Token.EOF)
+            end--;
+        int chunkStart = 0;
+        int depth = 0;
+        int parentheses = 0;
+        int lineLength = 0;
+        int firstOfLine = Token.INVALID_TYPE;
+        int lastOfLine = Token.INVALID_TYPE;
+        boolean awaitingBody = false;
+        for (int i = 0; i < end; i++) {
+            int type = tokens.get(i).getType();
+            if (type == CmmParser.NEWLINE) {
+                if (lineLength > 0)
+                    awaitingBody = depth > 0 || parentheses > 0 || lastOfLine == CmmParser.RPAR
+                            || lastOfLine == CmmParser.ELSE || lastOfLine == CmmParser.DO
+                            || (lineLength == 2 && firstOfLine == CmmParser.STRUCT);
+                lineLength = 0;
+                continue;
+            }
+            if (lineLength == 0) {
+                firstOfLine = type;
+                if (i - chunkStart >= chunkSize && depth == 0 && parentheses == 0 && !awaitingBody && isDeclarationStart(type)) {
+                    chunks.add(chunk(tokens.subList(chunkStart, i)));
+                    chunkStart = i;
+                }
+            }
+            lineLength++;
+            lastOfLine = type;
+            if (type == CmmParser.BEGIN)
+                depth++;
+            else if (type == CmmParser.END)
+                depth--;
+            else if (type == CmmParser.LPAR)
+                parentheses++;
+            else if (type == CmmParser.RPAR)
+                parentheses--;
+        }
+        chunks.add(chunk(tokens.subList(chunkStart, end)));
+        return chunks;
+    }
+
+    private static boolean isDeclarationStart(int type) {
+        return type == CmmParser.STRUCT || type == CmmParser.INT || type == CmmParser.BOOL
+                || type == CmmParser.LIST || type == CmmParser.FPTR || type == CmmParser.VOID
+                || type == CmmParser.MAIN;
+    }
+
+    private static Chunk chunk(List<Token> tokens) {
+        Chunk chunk = new Chunk();
+        chunk.tokens = tokens;
+        return chunk;
+    }
+
+    private boolean parseChunk(Chunk chunk) {
+        ArrayList<CompileError> errors = new ArrayList<>();
+        SyntaxErrorCollector errorCollector = new SyntaxErrorCollector(errors);
+        CommonTokenStream tokenStream = new CommonTokenStream(new ListTokenSource(chunk.tokens));
+        ProgramParser programParser = new ProgramParser();
+        chunk.declarations = programParser.parse(tokenStream, errorCollector, cmmParser -> {
+            ArrayList<Object> declarations = new ArrayList<>();
+            while (true) {
+                while (cmmParser.getCurrentToken().getType() == CmmParser.NEWLINE)
+                    cmmParser.consume();
+                int type = cmmParser.getCurrentToken().getType();
+                if (type == Token.EOF)
+                    return declarations;
+                if (type == CmmParser.MAIN)
+                    declarations.add(cmmParser.main().mainRet);
+                else if (type == CmmParser.STRUCT && tokenStream.LA(3) != CmmParser.IDENTIFIER)
+                    declarations.add(cmmParser.structDeclaration().structDeclarationRet);
+                else
+                    declarations.add(cmmParser.functionDeclaration().functionDeclarationRet);
+                if (!errors.isEmpty())
+                    return null;
+            }
+        });
+        return chunk.declarations != null && errors.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package main.parsing;
+
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.LookaheadEventInfo;
+
+import java.util.*;
+
+public class ParserProfile {
+    public static class Decision {
+        private final int decision;
+        private final String rule;
+        private final DecisionInfo info;
+        private final int worstLine;
+
+        private Decision(int decision, String rule, DecisionInfo info, int worstLine) {
+            this.decision = decision;
+            this.rule = rule;
+            this.info = info;
+            this.worstLine = worstLine;
+        }
+
+        public int getDecision() {
+            return decision;
+        }
+
+        public String getRule() {
+            return rule;
+        }
+
+        public long getInvocations() {
+            return info.invocations;
+        }
+
+        public long getTotalLookahead() {
+            return info.SLL_TotalLook + info.LL_TotalLook;
+        }
+
+        public long getMaxLookahead() {
+            return Math.max(info.SLL_MaxLook, info.LL_MaxLook);
+        }
+
+        public long getLLFallbacks() {
+            return info.LL_Fallback;
+        }
+
+        public long getSLLOnly() {
+            return info.invocations - info.LL_Fallback;
+        }
+
+        public int getAmbiguities() {
+            return info.ambiguities.size();
+        }
+
+        public long getNanos() {
+            return info.timeInPrediction;
+        }
+
+        public int getWorstLine() {
+            return worstLine;
+        }
+    }
+
+    private final ArrayList<Decision> decisions = new ArrayList<>();
+
+    public ParserProfile(Parser parser) {
+        for (DecisionInfo info : parser.getParseInfo().getDecisionInfo()) {
+            if (info.invocations == 0)
+                continue;
+            String rule = parser.getRuleNames()[parser.getATN().getDecisionState(info.decision).ruleIndex];
+            LookaheadEventInfo worst = info.LL_MaxLook > info.SLL_MaxLook ? info.LL_MaxLookEvent : info.SLL_MaxLookEvent;
+            int worstLine = 0;
+            if (worst != null && worst.input instanceof BufferedTokenStream)
+                worstLine = worst.input.get(worst.startIndex).getLine();
+            decisions.add(new Decision(info.decision, rule, info, worstLine));
+        }
+        decisions.sort((a, b) -> Long.compare(b.getNanos(), a.getNanos()));
+    }
+
+    public List<Decision> getDecisions() {
+        return decisions;
+    }
+
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-8s %-22s %11s %10s %6s %10s %6s %6s %10s %6s%n", "decision", "rule",
+                "invocations", "lookahead", "max", "SLL", "LL", "ambig", "time ms", "line"));
+        long invocations = 0, lookahead = 0, sllOnly = 0, fallbacks = 0, ambiguities = 0, nanos = 0;
+        for (Decision decision : decisions) {
+            report.append(String.format(Locale.ROOT, "%-8d %-22s %11d %10d %6d %10d %6d %6d %10.3f %6s%n",
+                    decision.getDecision(), decision.getRule(), decision.getInvocations(), decision.getTotalLookahead(),
+                    decision.getMaxLookahead(), decision.getSLLOnly(), decision.getLLFallbacks(),
+                    decision.getAmbiguities(), decision.getNanos() / 1e6,
+                    decision.getWorstLine() > 0 ? String.valueOf(decision.getWorstLine()) : "-"));
+            invocations += decision.getInvocations();
+            lookahead += decision.getTotalLookahead();
+            sllOnly += decision.getSLLOnly();
+            fallbacks += decision.getLLFallbacks();
+            ambiguities += decision.getAmbiguities();
+            nanos += decision.getNanos();
+        }
+        report.append(String.format(Locale.ROOT, "%-8s %-22s %11d %10d %6s %10d %6d %6d %10.3f%n", "total", "",
+                invocations, lookahead, "", sllOnly, fallbacks, ambiguities, nanos / 1e6));
+        return report.toString();
+    }
+}
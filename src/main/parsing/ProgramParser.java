@@ -0,0 +1,92 @@
+package main.parsing;
+
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import parsers.CmmLexer;
+import parsers.CmmParser;
+
+import java.util.function.Function;
+
+public class ProgramParser {
+    private boolean twoStage = true;
+    private boolean fullContextUsed = false;
+    private boolean profile = false;
+    private ParserProfile parserProfile;
+
+    public void setTwoStage(boolean twoStage) {
+        this.twoStage = twoStage;
+    }
+
+    public boolean isFullContextUsed() {
+        return fullContextUsed;
+    }
+
+    public void setProfile(boolean profile) {
+        this.profile = profile;
+    }
+
+    public ParserProfile getParserProfile() {
+        return parserProfile;
+    }
+
+    public Program parse(TokenStream tokens, ANTLRErrorListener errorListener) {
+        return parse(tokens, errorListener, cmmParser -> cmmParser.cmm().cmmProgram);
+    }
+
+    public <T> T parse(TokenStream tokens, ANTLRErrorListener errorListener, Function<CmmParser, T> rule) {
+        CmmParser cmmParser = new CmmParser(tokens);
+        cmmParser.setBuildParseTree(false);
+        cmmParser.removeErrorListeners();
+        cmmParser.setProfile(profile);
+        fullContextUsed = false;
+        try {
+            if (twoStage) {
+                cmmParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                cmmParser.setErrorHandler(new BailErrorStrategy());
+                cmmParser.addErrorListener(new BaseErrorListener() {
+                    @Override
+                    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                            int charPositionInLine, String msg, RecognitionException e) {
+                        throw new ParseCancellationException(msg);
+                    }
+                });
+                try {
+                    return rule.apply(cmmParser);
+                } catch (ParseCancellationException e) {
+                    cmmParser.removeErrorListeners();
+                    cmmParser.reset();
+                    cmmParser.setErrorHandler(new DefaultErrorStrategy());
+                    cmmParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                    fullContextUsed = true;
+                }
+            }
+            if (errorListener != null)
+                cmmParser.addErrorListener(errorListener);
+            return rule.apply(cmmParser);
+        } finally {
+            if (profile)
+                parserProfile = new ParserProfile(cmmParser);
+        }
+    }
+
+    public Program parseUnbuffered(CharStream input, ANTLRErrorListener errorListener) {
+        CmmLexer cmmLexer = new CmmLexer(input);
+        cmmLexer.setTokenFactory(new CommonTokenFactory(true));
+        cmmLexer.removeErrorListeners();
+        CmmParser cmmParser = new CmmParser(new UnbufferedTokenStream<>(cmmLexer));
+        cmmParser.setBuildParseTree(false);
+        cmmParser.removeErrorListeners();
+        cmmParser.setProfile(profile);
+        if (errorListener != null) {
+            cmmLexer.addErrorListener(errorListener);
+            cmmParser.addErrorListener(errorListener);
+        }
+        fullContextUsed = true;
+        Program program = cmmParser.cmm().cmmProgram;
+        if (profile)
+            parserProfile = new ParserProfile(cmmParser);
+        return program;
+    }
+}
@@ -0,0 +1,48 @@
+package main.runner;
+
+public class ExecutionResult {
+    private String output = "";
+    private String errors = "";
+    private Throwable exception;
+    private long elapsedNanos;
+    private int exitCode = 0;
+
+    public String getOutput() {
+        return output;
+    }
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public String getErrors() {
+        return errors;
+    }
+    public void setErrors(String errors) {
+        this.errors = errors;
+    }
+
+    public Throwable getException() {
+        return exception;
+    }
+    public void setException(Throwable exception) {
+        this.exception = exception;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+    public void setExitCode(int exitCode) {
+        this.exitCode = exitCode;
+    }
+
+    public boolean isSuccessful() {
+        return exception == null && exitCode == 0;
+    }
+}
@@ -0,0 +1,20 @@
+package main.runner;
+
+import java.util.*;
+
+public class GeneratedClassLoader extends ClassLoader {
+    private final Map<String, byte[]> classes;
+
+    public GeneratedClassLoader(Map<String, byte[]> classes) {
+        super(ClassLoader.getSystemClassLoader().getParent());
+        this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] classBytes = classes.get(name);
+        if (classBytes == null)
+            throw new ClassNotFoundException(name);
+        return defineClass(name, classBytes, 0, classBytes.length);
+    }
+}
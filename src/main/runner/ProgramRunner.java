@@ -0,0 +1,78 @@
+package main.runner;
+
+import main.utils.OutputRedirector;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.TimeoutException;
+
+public class ProgramRunner {
+    public static final String MAIN_CLASS = "Main";
+    private long timeoutMillis = 0;
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public ExecutionResult run(Map<String, byte[]> classes) {
+        ExecutionResult result = new ExecutionResult();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        OutputRedirector.redirect(output, errors);
+        try {
+            Map<String, byte[]> programClasses = new HashMap<>(RuntimeLibrary.getClasses());
+            programClasses.putAll(classes);
+            ClassLoader loader = new GeneratedClassLoader(programClasses);
+            Method main = loader.loadClass(MAIN_CLASS).getMethod("main", String[].class);
+            if (timeoutMillis > 0)
+                invokeWithTimeout(main, output, errors, result);
+            else
+                main.invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e) {
+            result.setException(e.getCause());
+            e.getCause().printStackTrace();
+        } catch (ReflectiveOperationException | LinkageError | IOException | InterruptedException e) {
+            result.setException(e);
+            e.printStackTrace();
+        } finally {
+            OutputRedirector.restore();
+            result.setElapsedNanos(System.nanoTime() - start);
+            result.setOutput(output.toString());
+            result.setErrors(errors.toString());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("deprecation")
+    private void invokeWithTimeout(Method main, OutputStream output, OutputStream errors, ExecutionResult result)
+            throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            OutputRedirector.redirect(output, errors);
+            try {
+                main.invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof ThreadDeath)
+                    return;
+                result.setException(e.getCause());
+                e.getCause().printStackTrace();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                result.setException(e);
+                e.printStackTrace();
+            } finally {
+                OutputRedirector.restore();
+            }
+        }, "cmm-program");
+        thread.setDaemon(true);
+        thread.start();
+        thread.join(timeoutMillis);
+        if (!thread.isAlive())
+            return;
+        thread.stop();
+        thread.join(timeoutMillis);
+        TimeoutException timeout = new TimeoutException("Program did not finish within " + timeoutMillis + " ms");
+        result.setException(timeout);
+        System.err.println(timeout.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package main.runner;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.jar.*;
+
+public class RuntimeLibrary {
+    public static final String PATH = "utilities/jarFiles/cmmRuntime.jar";
+    private static File jarFile;
+    private static Map<String, byte[]> classes;
+
+    public static synchronized File getJarFile() {
+        if (jarFile == null)
+            jarFile = locate();
+        return jarFile;
+    }
+
+    private static File locate() {
+        String jarName = new File(PATH).getName();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator))
+            if (new File(entry).getName().equals(jarName) && new File(entry).isFile())
+                return new File(entry).getAbsoluteFile();
+        CodeSource codeSource = RuntimeLibrary.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null) {
+            try {
+                File directory = Paths.get(codeSource.getLocation().toURI()).toFile().getAbsoluteFile();
+                for (; directory != null; directory = directory.getParentFile()) {
+                    File candidate = new File(directory, PATH);
+                    if (candidate.isFile())
+                        return candidate;
+                }
+            } catch (URISyntaxException | IllegalArgumentException ignored) {
+            }
+        }
+        return new File(PATH).getAbsoluteFile();
+    }
+
+    public static synchronized Map<String, byte[]> getClasses() throws IOException {
+        if (classes != null)
+            return classes;
+        Map<String, byte[]> loaded = new HashMap<>();
+        try (JarInputStream jar = new JarInputStream(new BufferedInputStream(new FileInputStream(getJarFile())))) {
+            JarEntry entry;
+            byte[] buffer = new byte[8192];
+            while ((entry = jar.getNextJarEntry()) != null) {
+                if (!entry.getName().endsWith(".class"))
+                    continue;
+                ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+                int length;
+                while ((length = jar.read(buffer)) > 0)
+                    classBytes.write(buffer, 0, length);
+                loaded.put(entry.getName().replaceAll("\\.class$", ""), classBytes.toByteArray());
+            }
+        }
+        classes = Collections.unmodifiableMap(loaded);
+        return classes;
+    }
+}
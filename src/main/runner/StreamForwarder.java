@@ -0,0 +1,47 @@
+package main.runner;
+
+import java.io.*;
+import java.util.*;
+
+public class StreamForwarder {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final InputStream source;
+    private final ArrayList<OutputStream> sinks = new ArrayList<>();
+    private Thread thread;
+    private IOException exception;
+
+    public StreamForwarder(InputStream source) {
+        this.source = source;
+    }
+
+    public void addSink(OutputStream sink) {
+        if (sink != null)
+            sinks.add(sink);
+    }
+
+    public void start(String name) {
+        thread = new Thread(this::forward, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void forward() {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        try (InputStream input = source) {
+            while ((length = input.read(buffer)) > 0)
+                for (OutputStream sink : sinks)
+                    sink.write(buffer, 0, length);
+            for (OutputStream sink : sinks)
+                sink.flush();
+        } catch (IOException e) {
+            exception = e;
+        }
+    }
+
+    public void await() throws IOException, InterruptedException {
+        thread.join();
+        if (exception != null)
+            throw exception;
+    }
+}
@@ -0,0 +1,106 @@
+package main.server;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.CompilerOptions;
+import main.assembler.JasminAssembler;
+import main.utils.OutputRedirector;
+import main.visitor.codeGenerator.IncrementalBuild;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class CompileServer {
+    private static final long RUN_TIMEOUT_MILLIS = 10000;
+    private final JasminAssembler assembler = new JasminAssembler();
+    private final ExecutorService requests = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "cmm-request");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, IncrementalBuild> builds = new ConcurrentHashMap<>();
+    private CompilerOptions options = new CompilerOptions();
+
+    public void setOptions(CompilerOptions options) {
+        this.options = options;
+    }
+
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        PrintStream writer = new PrintStream(out, true);
+        ArrayList<Future<?>> pending = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String request = line.trim();
+            if (request.isEmpty())
+                continue;
+            if (request.equals("quit"))
+                break;
+            pending.add(requests.submit(() -> respond(request, writer)));
+        }
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public void listen(int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println("Listening on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                Socket socket = serverSocket.accept();
+                requests.submit(() -> {
+                    try (Socket client = socket) {
+                        serve(client.getInputStream(), client.getOutputStream());
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                });
+            }
+        }
+    }
+
+    private void respond(String request, PrintStream writer) {
+        String[] parts = request.split("\\s+", 2);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean successful = false;
+        long start = System.nanoTime();
+        OutputRedirector.redirect(output, output);
+        try {
+            if (parts.length == 2 && (parts[0].equals("compile") || parts[0].equals("run")))
+                successful = compile(parts[1], parts[0].equals("run"));
+            else
+                System.out.println("Unknown request: " + request);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        } finally {
+            OutputRedirector.restore();
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        synchronized (writer) {
+            writer.print(output);
+            writer.println(String.format("done %s %s %.2fms", request, successful ? "ok" : "failed", millis));
+        }
+    }
+
+    private boolean compile(String fileName, boolean runProgram) throws IOException {
+        CmmCompiler cmmCompiler = new CmmCompiler(assembler);
+        options.configure(cmmCompiler);
+        cmmCompiler.setInMemory(true);
+        cmmCompiler.setRunProgram(runProgram);
+        cmmCompiler.setRunTimeout(RUN_TIMEOUT_MILLIS);
+        IncrementalBuild build = builds.computeIfAbsent(new File(fileName).getCanonicalPath(),
+                path -> new IncrementalBuild());
+        cmmCompiler.setIncrementalBuild(build);
+        synchronized (build) {
+            CompilationResult result = cmmCompiler.compile(options.open(fileName));
+            options.report(result, System.out);
+            return result.isSuccessful();
+        }
+    }
+}
@@ -4,38 +4,21 @@ package main.symbolTable;
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.Stack;
 
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 
 public class SymbolTable {
 
-    //Start of static members
-
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
-    }
-
-    public static void pop() {
-        top = stack.pop();
-    }
-
-    //End of static members
-
     public SymbolTable pre;
     private Map<String, SymbolTableItem> items;
+    private AtomicLong lookups;
 
     public SymbolTable() {
         this(null);
@@ -52,7 +35,13 @@ public class SymbolTable {
         items.put(item.getKey(), item);
     }
 
+    public void setLookups(AtomicLong lookups) {
+        this.lookups = lookups;
+    }
+
     public SymbolTableItem getItem(String key) throws ItemNotFoundException {
+        if (lookups != null)
+            lookups.incrementAndGet();
         Set<SymbolTable> visitedSymbolTables = new HashSet<>();
         SymbolTable currentSymbolTable = this;
         while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
@@ -0,0 +1,72 @@
+package main.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+
+public class OutputRedirector {
+    private static final ThreadLocal<ArrayDeque<OutputStream[]>> targets = ThreadLocal.withInitial(ArrayDeque::new);
+    private static boolean installed = false;
+
+    private static class RoutedOutputStream extends OutputStream {
+        private final PrintStream fallback;
+        private final int index;
+
+        RoutedOutputStream(PrintStream fallback, int index) {
+            this.fallback = fallback;
+            this.index = index;
+        }
+
+        private OutputStream current() {
+            OutputStream[] streams = targets.get().peek();
+            return streams != null ? streams[index] : fallback;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            current().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            current().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            current().flush();
+        }
+    }
+
+    public static synchronized void install() {
+        if (installed)
+            return;
+        System.setOut(new PrintStream(new RoutedOutputStream(System.out, 0), true));
+        System.setErr(new PrintStream(new RoutedOutputStream(System.err, 1), true));
+        installed = true;
+    }
+
+    public static OutputStream currentOut() {
+        OutputStream[] streams = targets.get().peek();
+        return streams != null ? streams[0] : System.out;
+    }
+
+    public static OutputStream currentErr() {
+        OutputStream[] streams = targets.get().peek();
+        return streams != null ? streams[1] : System.err;
+    }
+
+    public static void redirect(OutputStream out, OutputStream err) {
+        install();
+        System.out.flush();
+        System.err.flush();
+        targets.get().push(new OutputStream[]{out, err});
+    }
+
+    public static void restore() {
+        System.out.flush();
+        System.err.flush();
+        targets.get().pop();
+    }
+}
@@ -1,5 +1,6 @@
 package main.visitor.codeGenerator;
 
+import main.CompilationContext;
 import main.ast.nodes.*;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
@@ -14,62 +15,97 @@ import main.symbolTable.exceptions.*;
 import main.symbolTable.items.FunctionSymbolTableItem;
 import main.symbolTable.items.StructSymbolTableItem;
 import main.symbolTable.items.VariableSymbolTableItem;
+import main.utils.Hashing;
 import main.visitor.Visitor;
-import main.visitor.type.ExpressionTypeChecker;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class CodeGenerator extends Visitor<String> {
-    private final ExpressionTypeChecker expressionTypeChecker = new ExpressionTypeChecker();
+    private final CompilationContext context;
     private String outputPath;
-    private FileWriter currentFile;
+    private Writer currentFile;
+    private boolean inMemory = false;
+    private final Map<String, StringWriter> generatedFiles = new LinkedHashMap<>();
+    private String currentClass;
+    private Consumer<String> classListener;
+    private IncrementalBuild incrementalBuild;
+    private DeclarationFingerprinter fingerprinter;
     private int labelCnt = 0;
+    private int emittedInstructions = 0;
     private int tmpVarCnt = 0;
     private boolean structFiled;
     private boolean isStruct = false;
     private FunctionDeclaration currentFunction;
     private StructDeclaration currentStruct;
     private final ArrayList<String> localVars = new ArrayList<>();
+    private StringBuilder commands;
 
+    public CodeGenerator(CompilationContext context) {
+        this.context = context;
+    }
 
-    private void copyFile(String toBeCopied, String toBePasted) {
-        try {
-            File readingFile = new File(toBeCopied);
-            File writingFile = new File(toBePasted);
-            InputStream readingFileStream = new FileInputStream(readingFile);
-            OutputStream writingFileStream = new FileOutputStream(writingFile);
-            byte[] buffer = new byte[1024];
-            int readLength;
-            while ((readLength = readingFileStream.read(buffer)) > 0)
-                writingFileStream.write(buffer, 0, readLength);
-            readingFileStream.close();
-            writingFileStream.close();
-        } catch (IOException e) {//unreachable
-        }
+    public void setInMemory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public void setIncrementalBuild(IncrementalBuild incrementalBuild) {
+        this.incrementalBuild = incrementalBuild;
+        this.fingerprinter = incrementalBuild == null ? null : new DeclarationFingerprinter(context);
+    }
+
+    public int getEmittedInstructions() {
+        return emittedInstructions;
+    }
+
+    public void setClassListener(Consumer<String> classListener) {
+        this.classListener = classListener;
+    }
+
+    public String getGeneratedFile(String className) {
+        StringWriter generatedFile = generatedFiles.get(className);
+        return generatedFile == null ? null : generatedFile.toString();
+    }
+
+    public Map<String, String> getGeneratedFiles() {
+        Map<String, String> files = new LinkedHashMap<>();
+        for (Map.Entry<String, StringWriter> generatedFile : generatedFiles.entrySet())
+            files.put(generatedFile.getKey(), generatedFile.getValue().toString());
+        return files;
     }
 
     private void prepareOutputFolder() {
-        this.outputPath = "output/";
-        String jasminPath = "utilities/jarFiles/jasmin.jar";
-        String listClassPath = "utilities/codeGenerationUtilityClasses/List.j";
-        String fptrClassPath = "utilities/codeGenerationUtilityClasses/Fptr.j";
+        this.outputPath = context.getOutputPath();
+        if (inMemory) {
+            this.generatedFiles.clear();
+            return;
+        }
         try {
             File directory = new File(this.outputPath);
             File[] files = directory.listFiles();
             if (files != null)
                 for (File file : files)
                     file.delete();
-            directory.mkdir();
+            directory.mkdirs();
         } catch (SecurityException e) {//unreachable
 
         }
-        copyFile(jasminPath, this.outputPath + "jasmin.jar");
-        copyFile(listClassPath, this.outputPath + "List.j");
-        copyFile(fptrClassPath, this.outputPath + "Fptr.j");
+    }
+
+    private void classGenerated(String className) {
+        if (classListener != null)
+            classListener.accept(className);
     }
 
     private void createFile(String name) {
+        this.currentClass = name;
+        if (inMemory) {
+            StringWriter writer = new StringWriter();
+            this.generatedFiles.put(name, writer);
+            this.currentFile = writer;
+            return;
+        }
         try {
             String path = this.outputPath + name + ".j";
             File file = new File(path);
@@ -79,7 +115,20 @@ public class CodeGenerator extends Visitor<String> {
         }
     }
 
+    private void closeFile() {
+        try {
+            this.currentFile.close();
+        } catch (IOException e) {//unreachable
+        }
+        classGenerated(this.currentClass);
+    }
+
     private void addCommand(String command) {
+        for (String line : command.split("\n")) {
+            String instruction = line.trim();
+            if (!instruction.isEmpty() && !instruction.startsWith(".") && !instruction.startsWith("Label_"))
+                emittedInstructions++;
+        }
         try {
             command = String.join("\n\t\t", command.split("\n"));
             if (command.startsWith("Label_"))
@@ -104,6 +153,15 @@ public class CodeGenerator extends Visitor<String> {
         addCommand(".end method");
     }
 
+    private String generate(Expression expression) {
+        StringBuilder outer = this.commands;
+        this.commands = new StringBuilder();
+        expression.accept(this);
+        String generated = this.commands.toString();
+        this.commands = outer;
+        return generated;
+    }
+
     private int slotOf(String identifier) {
         int count = 1;
         if (currentFunction == null)
@@ -115,21 +173,56 @@ public class CodeGenerator extends Visitor<String> {
         return count + tmpVarCnt++;
     }
 
+    private String generateUnit(String unitName, Declaration declaration) {
+        if (incrementalBuild == null) {
+            declaration.accept(this);
+            return null;
+        }
+        String fingerprint = fingerprinter.fingerprint(declaration);
+        String text = incrementalBuild.reuseUnit(unitName, fingerprint);
+        if (text == null) {
+            Writer file = this.currentFile;
+            StringWriter unit = new StringWriter();
+            this.currentFile = unit;
+            tmpVarCnt = 0;
+            declaration.accept(this);
+            this.currentFile = file;
+            text = unit.toString();
+            incrementalBuild.putUnit(unitName, fingerprint, text);
+        }
+        try {
+            this.currentFile.write(text);
+            this.currentFile.flush();
+        } catch (IOException e) {//unreachable
+        }
+        return fingerprint;
+    }
+
     @Override
     public String visit(Program program) {
         prepareOutputFolder();
 
         for (StructDeclaration structDeclaration : program.getStructs()) {
-            structDeclaration.accept(this);
+            String structName = structDeclaration.getStructName().getName();
+            createFile(structName);
+            String fingerprint = generateUnit("struct " + structName, structDeclaration);
+            if (incrementalBuild != null)
+                incrementalBuild.setClassFingerprint(structName, fingerprint);
+            closeFile();
         }
 
         createFile("Main");
 
-        program.getMain().accept(this);
+        StringBuilder mainFingerprint = new StringBuilder();
+        mainFingerprint.append(generateUnit("main", program.getMain()));
 
         for (FunctionDeclaration functionDeclaration : program.getFunctions()) {
-            functionDeclaration.accept(this);
+            String functionName = functionDeclaration.getFunctionName().getName();
+            mainFingerprint.append(' ').append(generateUnit("function " + functionName, functionDeclaration));
         }
+        if (incrementalBuild != null)
+            incrementalBuild.setClassFingerprint("Main", Hashing.sha256(mainFingerprint.toString()));
+        closeFile();
         return null;
     }
 
@@ -137,11 +230,10 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(StructDeclaration structDeclaration) {
         try {
             String structKey = StructSymbolTableItem.START_KEY + structDeclaration.getStructName().getName();
-            StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) SymbolTable.root.getItem(structKey);
-            SymbolTable.push(structSymbolTableItem.getStructSymbolTable());
+            StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) context.getRoot().getItem(structKey);
+            context.push(structSymbolTableItem.getStructSymbolTable());
         } catch (ItemNotFoundException e) {//unreachable
         }
-        createFile(structDeclaration.getStructName().getName());
 
         currentStruct = structDeclaration;
         isStruct = true;
@@ -168,7 +260,7 @@ public class CodeGenerator extends Visitor<String> {
         isStruct = false;
         currentStruct = null;
 
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
@@ -176,8 +268,8 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(FunctionDeclaration functionDeclaration) {
         try {
             String functionKey = FunctionSymbolTableItem.START_KEY + functionDeclaration.getFunctionName().getName();
-            FunctionSymbolTableItem functionSymbolTableItem = (FunctionSymbolTableItem) SymbolTable.root.getItem(functionKey);
-            SymbolTable.push(functionSymbolTableItem.getFunctionSymbolTable());
+            FunctionSymbolTableItem functionSymbolTableItem = (FunctionSymbolTableItem) context.getRoot().getItem(functionKey);
+            context.push(functionSymbolTableItem.getFunctionSymbolTable());
         } catch (ItemNotFoundException e) {//unreachable
         }
 
@@ -193,7 +285,7 @@ public class CodeGenerator extends Visitor<String> {
 
         FunctionSymbolTableItem fsti = null;
         try {
-            fsti = (FunctionSymbolTableItem) SymbolTable.root.getItem("Function_" + funcName);
+            fsti = (FunctionSymbolTableItem) context.getRoot().getItem("Function_" + funcName);
         } catch (ItemNotFoundException exception) {
             exception.printStackTrace();
         }
@@ -228,7 +320,7 @@ public class CodeGenerator extends Visitor<String> {
         currentFunction = null;
         localVars.clear();
         tmpVarCnt = 0;
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
@@ -250,8 +342,8 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(MainDeclaration mainDeclaration) {
         try {
             String functionKey = FunctionSymbolTableItem.START_KEY + "main";
-            FunctionSymbolTableItem functionSymbolTableItem = (FunctionSymbolTableItem) SymbolTable.root.getItem(functionKey);
-            SymbolTable.push(functionSymbolTableItem.getFunctionSymbolTable());
+            FunctionSymbolTableItem functionSymbolTableItem = (FunctionSymbolTableItem) context.getRoot().getItem(functionKey);
+            context.push(functionSymbolTableItem.getFunctionSymbolTable());
         } catch (ItemNotFoundException e) {//unreachable
         }
 
@@ -284,20 +376,20 @@ public class CodeGenerator extends Visitor<String> {
         localVars.clear();
         tmpVarCnt = 0;
 
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     private String generateValue(boolean haveNotDefaultValue, Expression expr, Type type) {
         if (type instanceof BoolType) {
-            if (haveNotDefaultValue) return this.visit(new BoolValue(false));
-            else return expr.accept(this);
+            if (haveNotDefaultValue) return generate(new BoolValue(false));
+            else return generate(expr);
         } else if (type instanceof IntType) {
-            if (haveNotDefaultValue) return this.visit(new IntValue(0));
-            else return expr.accept(this);
+            if (haveNotDefaultValue) return generate(new IntValue(0));
+            else return generate(expr);
         } else if (type instanceof FptrType) {
             if (haveNotDefaultValue) return "aconst_null";
-            else return expr.accept(this);
+            else return generate(expr);
         } else if (type instanceof ListType) {
             String commands = "";
             commands += "new java/util/ArrayList\n";
@@ -354,9 +446,8 @@ public class CodeGenerator extends Visitor<String> {
 
     @Override
     public String visit(AssignmentStmt assignmentStmt) {
-        String commands = this.visit(new BinaryExpression(assignmentStmt.getLValue(),
-                assignmentStmt.getRValue(), BinaryOperator.assign));
-        addCommand(commands);
+        addCommand(generate(new BinaryExpression(assignmentStmt.getLValue(),
+                assignmentStmt.getRValue(), BinaryOperator.assign)));
         addCommand("pop");
         return null;
     }
@@ -371,7 +462,7 @@ public class CodeGenerator extends Visitor<String> {
     public String visit(ConditionalStmt conditionalStmt) {
         String elseLabel = getNewLabel();
         String exitLabel = getNewLabel();
-        addCommand(conditionalStmt.getCondition().accept(this));
+        addCommand(generate(conditionalStmt.getCondition()));
         addCommand("ifeq " + elseLabel + "\n");
         conditionalStmt.getThenBody().accept(this);
         addCommand("goto " + exitLabel + "\n");
@@ -388,19 +479,16 @@ public class CodeGenerator extends Visitor<String> {
 
     @Override
     public String visit(FunctionCallStmt functionCallStmt) {
-        expressionTypeChecker.setInFunctionCallStmt(true);
-        addCommand(functionCallStmt.getFunctionCall().accept(this));
-        Type t = functionCallStmt.getFunctionCall().accept(expressionTypeChecker);
-        if (!(t instanceof VoidType)) addCommand("pop\n");
-        expressionTypeChecker.setInFunctionCallStmt(false);
+        addCommand(generate(functionCallStmt.getFunctionCall()));
+        addCommand("pop\n");
         return null;
     }
 
     @Override
     public String visit(DisplayStmt displayStmt) {
         addCommand("getstatic java/lang/System/out Ljava/io/PrintStream;");
-        Type argType = displayStmt.getArg().accept(expressionTypeChecker);
-        String commandsOfArg = displayStmt.getArg().accept(this);
+        Type argType = displayStmt.getArg().getType();
+        String commandsOfArg = generate(displayStmt.getArg());
         addCommand(commandsOfArg);
         if (argType instanceof IntType)
             addCommand("invokevirtual java/io/PrintStream/println(I)V");
@@ -416,9 +504,9 @@ public class CodeGenerator extends Visitor<String> {
             addCommand("return\n");
             return null;
         }
-        Type type = returnStmt.getReturnedExpr().accept(expressionTypeChecker);
+        Type type = returnStmt.getReturnedExpr().getType();
         if (!(type instanceof VoidType)) {
-            addCommand(returnStmt.getReturnedExpr().accept(this));
+            addCommand(generate(returnStmt.getReturnedExpr()));
             if (type instanceof IntType)
                 addCommand("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
             else if (type instanceof BoolType)
@@ -427,7 +515,7 @@ public class CodeGenerator extends Visitor<String> {
         } else {
             if (currentFunction != null)
                 if (!(currentFunction.getReturnType() instanceof VoidType)) {
-                    addCommand(returnStmt.getReturnedExpr().accept(this));
+                    addCommand(generate(returnStmt.getReturnedExpr()));
                     addCommand("areturn\n");
                 }
             addCommand("return\n");
@@ -442,10 +530,10 @@ public class CodeGenerator extends Visitor<String> {
         addCommand(startLabel + ":\n");
         if (loopStmt.getIsDoWhile()) {
             loopStmt.getBody().accept(this);
-            addCommand(loopStmt.getCondition().accept(this));
+            addCommand(generate(loopStmt.getCondition()));
             addCommand("ifeq " + exitLabel + "\n");
         } else {
-            addCommand(loopStmt.getCondition().accept(this));
+            addCommand(generate(loopStmt.getCondition()));
             addCommand("ifeq " + exitLabel + "\n");
             loopStmt.getBody().accept(this);
         }
@@ -465,15 +553,13 @@ public class CodeGenerator extends Visitor<String> {
 
     @Override
     public String visit(ListAppendStmt listAppendStmt) {
-        expressionTypeChecker.setInFunctionCallStmt(true);
-        addCommand(listAppendStmt.getListAppendExpr().accept(this));
-        expressionTypeChecker.setInFunctionCallStmt(false);
+        addCommand(generate(listAppendStmt.getListAppendExpr()));
         return null;
     }
 
     @Override
     public String visit(ListSizeStmt listSizeStmt) {
-        addCommand(listSizeStmt.getListSizeExpr().accept(this));
+        addCommand(generate(listSizeStmt.getListSizeExpr()));
         addCommand("pop");
         return null;
     }
@@ -491,133 +577,137 @@ public class CodeGenerator extends Visitor<String> {
     @Override
     public String visit(BinaryExpression binaryExpression) {
         BinaryOperator operator = binaryExpression.getBinaryOperator();
-        String commands = "";
-        Type tl = binaryExpression.getFirstOperand().accept(expressionTypeChecker);
+        Type tl = binaryExpression.getFirstOperand().getType();
         if (operator == BinaryOperator.add) {
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "iadd\n";
+            binaryExpression.getFirstOperand().accept(this);
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("iadd\n");
         } else if (operator == BinaryOperator.sub) {
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "isub\n";
+            binaryExpression.getFirstOperand().accept(this);
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("isub\n");
         } else if (operator == BinaryOperator.mult) {
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "imul\n";
+            binaryExpression.getFirstOperand().accept(this);
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("imul\n");
         } else if (operator == BinaryOperator.div) {
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "idiv\n";
+            binaryExpression.getFirstOperand().accept(this);
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("idiv\n");
         } else if ((operator == BinaryOperator.gt) || (operator == BinaryOperator.lt)) {
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += binaryExpression.getSecondOperand().accept(this);
+            binaryExpression.getFirstOperand().accept(this);
+            binaryExpression.getSecondOperand().accept(this);
 
             String nFalse = getNewLabel();
             String nAfter = getNewLabel();
 
-            if (operator == BinaryOperator.gt) commands += "if_icmple " + nFalse + "\n";
-            else commands += "if_icmpge " + nFalse + "\n";
+            if (operator == BinaryOperator.gt) commands.append("if_icmple ").append(nFalse).append("\n");
+            else commands.append("if_icmpge ").append(nFalse).append("\n");
 
-            commands += "iconst_1\n";
-            commands += "goto " + nAfter + "\n";
-            commands += nFalse + ":\n";
-            commands += "iconst_0\n";
-            commands += nAfter + ":\n";
+            commands.append("iconst_1\n");
+            commands.append("goto ").append(nAfter).append("\n");
+            commands.append(nFalse).append(":\n");
+            commands.append("iconst_0\n");
+            commands.append(nAfter).append(":\n");
         } else if (operator == BinaryOperator.eq) {
             String nFalse = getNewLabel();
             String nAfter = getNewLabel();
             if (tl instanceof IntType) {
-                commands += binaryExpression.getFirstOperand().accept(this);
-                commands += binaryExpression.getSecondOperand().accept(this);
-                commands += "if_icmpne " + nFalse + "\n";
+                binaryExpression.getFirstOperand().accept(this);
+                binaryExpression.getSecondOperand().accept(this);
+                commands.append("if_icmpne ").append(nFalse).append("\n");
             }
             if (tl instanceof BoolType) {
-                commands += binaryExpression.getFirstOperand().accept(this);
-                commands += binaryExpression.getSecondOperand().accept(this);
-                commands += "if_icmpne " + nFalse + "\n";
+                binaryExpression.getFirstOperand().accept(this);
+                binaryExpression.getSecondOperand().accept(this);
+                commands.append("if_icmpne ").append(nFalse).append("\n");
             }
             if ((tl instanceof ListType) || (tl instanceof FptrType) || (tl instanceof StructType)) {
-                commands += binaryExpression.getFirstOperand().accept(this);
-                commands += binaryExpression.getSecondOperand().accept(this);
-                commands += "if_acmpne " + nFalse + "\n";
+                binaryExpression.getFirstOperand().accept(this);
+                binaryExpression.getSecondOperand().accept(this);
+                commands.append("if_acmpne ").append(nFalse).append("\n");
             }
-            commands += "iconst_1\n";
-            commands += "goto " + nAfter + "\n";
-            commands += nFalse + ":\n";
-            commands += "iconst_0\n";
-            commands += nAfter + ":\n";
+            commands.append("iconst_1\n");
+            commands.append("goto ").append(nAfter).append("\n");
+            commands.append(nFalse).append(":\n");
+            commands.append("iconst_0\n");
+            commands.append(nAfter).append(":\n");
         } else if (operator == BinaryOperator.and) {
             String nFalse = getNewLabel();
             String nAfter = getNewLabel();
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += "ifeq " + nFalse + "\n";
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "ifeq " + nFalse + "\n";
-            commands += "iconst_1" + "\n";
-            commands += "goto " + nAfter + "\n";
-            commands += nFalse + ":\n";
-            commands += "iconst_0" + "\n";
-            commands += nAfter + ":\n";
+            binaryExpression.getFirstOperand().accept(this);
+            commands.append("ifeq ").append(nFalse).append("\n");
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("ifeq ").append(nFalse).append("\n");
+            commands.append("iconst_1\n");
+            commands.append("goto ").append(nAfter).append("\n");
+            commands.append(nFalse).append(":\n");
+            commands.append("iconst_0\n");
+            commands.append(nAfter).append(":\n");
         } else if (operator == BinaryOperator.or) {
             String nFalse = getNewLabel();
             String nAfter = getNewLabel();
-            commands += binaryExpression.getFirstOperand().accept(this);
-            commands += "ifne " + nFalse + "\n";
-            commands += binaryExpression.getSecondOperand().accept(this);
-            commands += "ifne " + nFalse + "\n";
-            commands += "iconst_0" + "\n";
-            commands += "goto " + nAfter + "\n";
-            commands += nFalse + ":\n";
-            commands += "iconst_1" + "\n";
-            commands += nAfter + ":\n";
+            binaryExpression.getFirstOperand().accept(this);
+            commands.append("ifne ").append(nFalse).append("\n");
+            binaryExpression.getSecondOperand().accept(this);
+            commands.append("ifne ").append(nFalse).append("\n");
+            commands.append("iconst_0\n");
+            commands.append("goto ").append(nAfter).append("\n");
+            commands.append(nFalse).append(":\n");
+            commands.append("iconst_1\n");
+            commands.append(nAfter).append(":\n");
         } else if (operator == BinaryOperator.assign) {
-            Type firstType = binaryExpression.getFirstOperand().accept(expressionTypeChecker);
-            String secondOperandCommands = binaryExpression.getSecondOperand().accept(this);
+            Type firstType = binaryExpression.getFirstOperand().getType();
+            String secondOperandCommands = generate(binaryExpression.getSecondOperand());
             if (firstType instanceof ListType) {
-                secondOperandCommands = "new List\n" + "dup\n" + binaryExpression.getSecondOperand().accept(this)
+                secondOperandCommands = "new List\n" + "dup\n" + generate(binaryExpression.getSecondOperand())
                         + "\n" + "invokespecial List/<init>(LList;)V\n";
             }
             if (binaryExpression.getFirstOperand() instanceof Identifier) {
-                commands += secondOperandCommands + "\n";
-                commands += "dup\n";
+                commands.append(secondOperandCommands).append("\n");
+                commands.append("dup\n");
                 if (firstType instanceof IntType)
-                    commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
+                    commands.append("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
                 else if (firstType instanceof BoolType)
-                    commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
+                    commands.append("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n");
                 int varSlot = slotOf(((Identifier) binaryExpression.getFirstOperand()).getName());
-                commands += "astore" + underlineOrSpace(varSlot) + varSlot + "\n";
+                commands.append("astore").append(underlineOrSpace(varSlot)).append(varSlot).append("\n");
             } else if (binaryExpression.getFirstOperand() instanceof ListAccessByIndex) {
-                commands += ((ListAccessByIndex) binaryExpression.getFirstOperand()).getInstance().accept(this) + "\n";
-                commands += ((ListAccessByIndex) binaryExpression.getFirstOperand()).getIndex().accept(this) + "\n";
-                commands += secondOperandCommands + "\n";
-                commands += "dup_x2\n";
+                ((ListAccessByIndex) binaryExpression.getFirstOperand()).getInstance().accept(this);
+                commands.append("\n");
+                ((ListAccessByIndex) binaryExpression.getFirstOperand()).getIndex().accept(this);
+                commands.append("\n");
+                commands.append(secondOperandCommands).append("\n");
+                commands.append("dup_x2\n");
                 if (firstType instanceof IntType)
-                    commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
+                    commands.append("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
                 else if (firstType instanceof BoolType)
-                    commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
-                commands += "invokevirtual List/setElement(ILjava/lang/Object;)V";
+                    commands.append("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n");
+                commands.append("invokevirtual List/setElement(ILjava/lang/Object;)V");
             } else if (binaryExpression.getFirstOperand() instanceof StructAccess) {
                 Expression instance = ((StructAccess) binaryExpression.getFirstOperand()).getInstance();
-                Type memberType = binaryExpression.getFirstOperand().accept(expressionTypeChecker);
+                Type memberType = binaryExpression.getFirstOperand().getType();
                 String memberName = ((StructAccess) binaryExpression.getFirstOperand()).getElement().getName();
-                Type instanceType = instance.accept(expressionTypeChecker);
+                Type instanceType = instance.getType();
 
-                commands += binaryExpression.getFirstOperand().accept(this);
+                binaryExpression.getFirstOperand().accept(this);
 
                 String className = ((StructType) instanceType).getStructName().getName();
-                commands += instance.accept(this) + "\n";
-                commands += binaryExpression.getSecondOperand().accept(this) + "\n";
+                instance.accept(this);
+                commands.append("\n");
+                binaryExpression.getSecondOperand().accept(this);
+                commands.append("\n");
 
                 if (memberType instanceof IntType) {
-                    commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
+                    commands.append("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
                 } else if (memberType instanceof BoolType) {
-                    commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
+                    commands.append("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n");
                 }
-                commands += "putfield " + className + "/" + memberName + " " + getTypeString(memberType) + "\n";
+                commands.append("putfield ").append(className).append("/").append(memberName).append(" ")
+                        .append(getTypeString(memberType)).append("\n");
             }
         }
-        return commands;
+        return null;
     }
 
     @Override
@@ -627,146 +717,150 @@ public class CodeGenerator extends Visitor<String> {
 
     @Override
     public String visit(StructAccess structAccess) {
-        Type memberType = structAccess.accept(expressionTypeChecker);
-        Type instanceType = structAccess.getInstance().accept(expressionTypeChecker);
+        Type memberType = structAccess.getType();
+        Type instanceType = structAccess.getInstance().getType();
         String memberName = structAccess.getElement().getName();
-        String commands = "";
         String className = ((StructType) instanceType).getStructName().getName();
         try {
-            SymbolTable classSymbolTable = ((StructSymbolTableItem) SymbolTable.root.getItem
+            SymbolTable classSymbolTable = ((StructSymbolTableItem) context.getRoot().getItem
                     (StructSymbolTableItem.START_KEY + className)).getStructSymbolTable();
             try {
                 classSymbolTable.getItem(VariableSymbolTableItem.START_KEY + memberName);
-                commands += structAccess.getInstance().accept(this) + "\n";
-                commands += "getfield " + className + "/" + memberName + " " + getTypeString(memberType) + "\n";
+                structAccess.getInstance().accept(this);
+                commands.append("\n");
+                commands.append("getfield ").append(className).append("/").append(memberName).append(" ")
+                        .append(getTypeString(memberType)).append("\n");
                 if (memberType instanceof IntType)
-                    commands += "\ninvokevirtual java/lang/Integer/intValue()I\n";
+                    commands.append("\ninvokevirtual java/lang/Integer/intValue()I\n");
                 else if (memberType instanceof BoolType)
-                    commands += "\ninvokevirtual java/lang/Boolean/booleanValue()Z\n";
+                    commands.append("\ninvokevirtual java/lang/Boolean/booleanValue()Z\n");
             } catch (ItemNotFoundException memberIsMethod) {
-                commands += "new Fptr\n";
-                commands += "dup\n";
-                commands += structAccess.getInstance().accept(this) + "\n";
-                commands += "ldc \"" + memberName + "\"\n";
-                commands += "invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n";
+                commands.append("new Fptr\n");
+                commands.append("dup\n");
+                structAccess.getInstance().accept(this);
+                commands.append("\n");
+                commands.append("ldc \"").append(memberName).append("\"\n");
+                commands.append("invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n");
             }
         } catch (ItemNotFoundException ignored) {
         }
-        return commands;
+        return null;
     }
 
     @Override
     public String visit(Identifier identifier) {
         FunctionSymbolTableItem fsti = null;
         try {
-            fsti = (FunctionSymbolTableItem) SymbolTable.root.getItem("Function_" + identifier.getName());
+            fsti = (FunctionSymbolTableItem) context.getRoot().getItem("Function_" + identifier.getName());
         } catch (ItemNotFoundException ignored) {
         }
-        String command = "";
         if (fsti == null) {
-            Type type = identifier.accept(expressionTypeChecker);
-            command += "aload " + slotOf(identifier.getName()) + "\n";
+            Type type = identifier.getType();
+            commands.append("aload ").append(slotOf(identifier.getName())).append("\n");
             if (type instanceof IntType)
-                command += "invokevirtual java/lang/Integer/intValue()I\n";
+                commands.append("invokevirtual java/lang/Integer/intValue()I\n");
             else if (type instanceof BoolType)
-                command += "invokevirtual java/lang/Boolean/booleanValue()Z\n";
+                commands.append("invokevirtual java/lang/Boolean/booleanValue()Z\n");
         } else {
-            command += "new Fptr\n" + "dup\n" + "aload_0\n" + "ldc \"" + identifier.getName() + "\"\n" +
-                    "invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n";
+            commands.append("new Fptr\n" + "dup\n" + "aload_0\n" + "ldc \"").append(identifier.getName()).append("\"\n")
+                    .append("invokespecial Fptr/<init>(Ljava/lang/Object;Ljava/lang/String;)V\n");
         }
-        return command;
+        return null;
     }
 
     @Override
     public String visit(ListAccessByIndex listAccessByIndex) {
-        String commands = "";
-        commands += listAccessByIndex.getInstance().accept(this) + "\n";
-        commands += listAccessByIndex.getIndex().accept(this) + "\n";
-        Type type = listAccessByIndex.accept(expressionTypeChecker);
-        commands += "invokevirtual List/getElement(I)Ljava/lang/Object;\n";
+        listAccessByIndex.getInstance().accept(this);
+        commands.append("\n");
+        listAccessByIndex.getIndex().accept(this);
+        commands.append("\n");
+        Type type = listAccessByIndex.getType();
+        commands.append("invokevirtual List/getElement(I)Ljava/lang/Object;\n");
         if (!(type instanceof VoidType) && !(type instanceof NoType))
-            commands += "checkcast " + getClass(type) + "\n";
+            commands.append("checkcast ").append(getClass(type)).append("\n");
         if (type instanceof IntType)
-            commands += "invokevirtual java/lang/Integer/intValue()I\n";
+            commands.append("invokevirtual java/lang/Integer/intValue()I\n");
         else if (type instanceof BoolType)
-            commands += "invokevirtual java/lang/Boolean/booleanValue()Z\n";
-        return commands;
+            commands.append("invokevirtual java/lang/Boolean/booleanValue()Z\n");
+        return null;
     }
 
     @Override
     public String visit(FunctionCall functionCall) {
-        String commands = "";
-        commands += functionCall.getInstance().accept(this);
-        commands += "new java/util/ArrayList\n";
-        commands += "dup\n";
-        commands += "invokespecial java/util/ArrayList/<init>()V\n";
+        functionCall.getInstance().accept(this);
+        commands.append("new java/util/ArrayList\n");
+        commands.append("dup\n");
+        commands.append("invokespecial java/util/ArrayList/<init>()V\n");
         int tempVar = slotOf("");
-        commands += "astore " + tempVar + "\n";
+        commands.append("astore ").append(tempVar).append("\n");
         for (Expression arg : functionCall.getArgs()) {
-            commands += "aload " + tempVar + "\n";
-            Type argType = arg.accept(expressionTypeChecker);
+            commands.append("aload ").append(tempVar).append("\n");
+            Type argType = arg.getType();
             if (argType instanceof ListType) {
-                commands += "new List\n";
-                commands += "dup\n";
+                commands.append("new List\n");
+                commands.append("dup\n");
             }
-            commands += arg.accept(this);
+            arg.accept(this);
             if (argType instanceof IntType)
-                commands += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
+                commands.append("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
             else if (argType instanceof BoolType)
-                commands += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
+                commands.append("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n");
             else if (argType instanceof ListType) {
-                commands += "invokespecial List/<init>(LList;)V\n";
+                commands.append("invokespecial List/<init>(LList;)V\n");
             }
-            commands += "invokevirtual java/util/ArrayList/add(Ljava/lang/Object;)Z\n";
-            commands += "pop\n";
+            commands.append("invokevirtual java/util/ArrayList/add(Ljava/lang/Object;)Z\n");
+            commands.append("pop\n");
         }
-        commands += "aload " + tempVar + "\n";
-        commands += "invokevirtual Fptr/invoke(Ljava/util/ArrayList;)Ljava/lang/Object;\n";
-        Type type = functionCall.accept(expressionTypeChecker);
+        commands.append("aload ").append(tempVar).append("\n");
+        commands.append("invokevirtual Fptr/invoke(Ljava/util/ArrayList;)Ljava/lang/Object;\n");
+        Type type = functionCall.getType();
         if (!(type instanceof VoidType) && !(type instanceof NoType))
-            commands += "checkcast " + getClass(type) + "\n";
+            commands.append("checkcast ").append(getClass(type)).append("\n");
         if (type instanceof IntType)
-            commands += "invokevirtual java/lang/Integer/intValue()I" + "\n";
+            commands.append("invokevirtual java/lang/Integer/intValue()I\n");
         else if (type instanceof BoolType)
-            commands += "invokevirtual java/lang/Boolean/booleanValue()Z" + "\n";
+            commands.append("invokevirtual java/lang/Boolean/booleanValue()Z\n");
         tmpVarCnt--;
-        return commands;
+        return null;
     }
 
     @Override
     public String visit(ListSize listSize) {
-        String command = listSize.getArg().accept(this);
-        command += "invokevirtual List/getSize()I\n";
-        return command;
+        listSize.getArg().accept(this);
+        commands.append("invokevirtual List/getSize()I\n");
+        return null;
     }
 
     @Override
     public String visit(ListAppend listAppend) {
-        Type elementType = listAppend.getElementArg().accept(expressionTypeChecker);
-        String command = listAppend.getListArg().accept(this);
-        command += listAppend.getElementArg().accept(this);
+        Type elementType = listAppend.getElementArg().getType();
+        listAppend.getListArg().accept(this);
+        listAppend.getElementArg().accept(this);
 
         if (elementType instanceof IntType)
-            command += "invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n";
+            commands.append("invokestatic java/lang/Integer/valueOf(I)Ljava/lang/Integer;\n");
         if (elementType instanceof BoolType)
-            command += "invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n";
+            commands.append("invokestatic java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;\n");
 
-        command += "invokevirtual List/addElement(Ljava/lang/Object;)V\n";
-        return command;
+        commands.append("invokevirtual List/addElement(Ljava/lang/Object;)V\n");
+        return null;
     }
 
     @Override
     public String visit(IntValue intValue) {
-        return "ldc " + intValue.getConstant() + "\n";
+        commands.append("ldc ").append(intValue.getConstant()).append("\n");
+        return null;
     }
 
     @Override
     public String visit(BoolValue boolValue) {
-        return "ldc " + (boolValue.getConstant() ? 1 : 0) + "\n";
+        commands.append("ldc ").append(boolValue.getConstant() ? 1 : 0).append("\n");
+        return null;
     }
 
     @Override
     public String visit(ExprInPar exprInPar) {
-        return exprInPar.getInputs().get(0).accept(this);
+        exprInPar.getInputs().get(0).accept(this);
+        return null;
     }
 }
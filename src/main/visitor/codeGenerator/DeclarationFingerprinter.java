@@ -0,0 +1,327 @@
+package main.visitor.codeGenerator;
+
+import main.CompilationContext;
+import main.ast.nodes.*;
+import main.ast.nodes.declaration.*;
+import main.ast.nodes.declaration.struct.*;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.primitive.*;
+import main.ast.nodes.statement.*;
+import main.ast.types.*;
+import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.items.FunctionSymbolTableItem;
+import main.symbolTable.items.StructSymbolTableItem;
+import main.utils.Hashing;
+import main.visitor.Visitor;
+
+import java.util.*;
+
+public class DeclarationFingerprinter extends Visitor<Void> {
+    private final CompilationContext context;
+    private StringBuilder text;
+    private TreeSet<String> pendingIdentifiers;
+    private TreeSet<String> pendingStructs;
+
+    public DeclarationFingerprinter(CompilationContext context) {
+        this.context = context;
+    }
+
+    public String fingerprint(Declaration declaration) {
+        text = new StringBuilder();
+        pendingIdentifiers = new TreeSet<>();
+        pendingStructs = new TreeSet<>();
+        declaration.accept(this);
+
+        Set<String> seenIdentifiers = new HashSet<>();
+        Set<String> seenStructs = new HashSet<>();
+        while (!pendingIdentifiers.isEmpty() || !pendingStructs.isEmpty()) {
+            String identifier = pendingIdentifiers.pollFirst();
+            if (identifier != null && seenIdentifiers.add(identifier))
+                appendFunctionSignature(identifier);
+            String struct = pendingStructs.pollFirst();
+            if (struct != null && seenStructs.add(struct))
+                appendStructLayout(struct);
+        }
+        return Hashing.sha256(text.toString());
+    }
+
+    private void appendFunctionSignature(String name) {
+        try {
+            FunctionSymbolTableItem functionItem = (FunctionSymbolTableItem)
+                    context.getRoot().getItem(FunctionSymbolTableItem.START_KEY + name);
+            text.append("|function ").append(name).append(':')
+                    .append(typeKey(new FptrType(functionItem.getArgTypes(), functionItem.getReturnType())));
+        } catch (ItemNotFoundException ignored) {
+        }
+    }
+
+    private void appendStructLayout(String name) {
+        try {
+            StructSymbolTableItem structItem = (StructSymbolTableItem)
+                    context.getRoot().getItem(StructSymbolTableItem.START_KEY + name);
+            text.append("|struct ").append(name).append(':');
+            structItem.getStructDeclaration().accept(this);
+        } catch (ItemNotFoundException ignored) {
+        }
+    }
+
+    private String typeKey(Type type) {
+        if (type instanceof ListType)
+            return "list#" + typeKey(((ListType) type).getType());
+        if (type instanceof StructType) {
+            String name = ((StructType) type).getStructName().getName();
+            pendingStructs.add(name);
+            return "struct " + name;
+        }
+        if (type instanceof FptrType) {
+            StringBuilder key = new StringBuilder("fptr<");
+            for (Type argType : ((FptrType) type).getArgsType())
+                key.append(typeKey(argType)).append(',');
+            return key.append("->").append(typeKey(((FptrType) type).getReturnType())).append('>').toString();
+        }
+        return String.valueOf(type);
+    }
+
+    private void open(Node node) {
+        text.append(node.toString()).append('(');
+    }
+
+    private void close() {
+        text.append(')');
+    }
+
+    private void visitNullable(Node node) {
+        if (node == null)
+            text.append("null");
+        else
+            node.accept(this);
+    }
+
+    @Override
+    public Void visit(FunctionDeclaration functionDeclaration) {
+        open(functionDeclaration);
+        text.append(typeKey(functionDeclaration.getReturnType()));
+        for (VariableDeclaration arg : functionDeclaration.getArgs())
+            arg.accept(this);
+        functionDeclaration.getBody().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(MainDeclaration mainDeclaration) {
+        open(mainDeclaration);
+        mainDeclaration.getBody().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(VariableDeclaration variableDeclaration) {
+        open(variableDeclaration);
+        text.append(typeKey(variableDeclaration.getVarType()));
+        visitNullable(variableDeclaration.getDefaultValue());
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(StructDeclaration structDeclaration) {
+        open(structDeclaration);
+        structDeclaration.getBody().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(SetGetVarDeclaration setGetVarDeclaration) {
+        open(setGetVarDeclaration);
+        text.append(typeKey(setGetVarDeclaration.getVarType()));
+        for (VariableDeclaration arg : setGetVarDeclaration.getArgs())
+            arg.accept(this);
+        setGetVarDeclaration.getSetterBody().accept(this);
+        setGetVarDeclaration.getGetterBody().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        open(assignmentStmt);
+        assignmentStmt.getLValue().accept(this);
+        assignmentStmt.getRValue().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        open(blockStmt);
+        for (Statement statement : blockStmt.getStatements())
+            statement.accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        open(conditionalStmt);
+        conditionalStmt.getCondition().accept(this);
+        conditionalStmt.getThenBody().accept(this);
+        visitNullable(conditionalStmt.getElseBody());
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCallStmt functionCallStmt) {
+        open(functionCallStmt);
+        functionCallStmt.getFunctionCall().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(DisplayStmt displayStmt) {
+        open(displayStmt);
+        displayStmt.getArg().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        open(returnStmt);
+        visitNullable(returnStmt.getReturnedExpr());
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(LoopStmt loopStmt) {
+        open(loopStmt);
+        text.append(loopStmt.getIsDoWhile());
+        loopStmt.getCondition().accept(this);
+        loopStmt.getBody().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDecStmt varDecStmt) {
+        open(varDecStmt);
+        for (VariableDeclaration variableDeclaration : varDecStmt.getVars())
+            variableDeclaration.accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAppendStmt listAppendStmt) {
+        open(listAppendStmt);
+        listAppendStmt.getListAppendExpr().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ListSizeStmt listSizeStmt) {
+        open(listSizeStmt);
+        listSizeStmt.getListSizeExpr().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        open(binaryExpression);
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        open(unaryExpression);
+        unaryExpression.getOperand().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionCall functionCall) {
+        open(functionCall);
+        functionCall.getInstance().accept(this);
+        for (Expression arg : functionCall.getArgs())
+            arg.accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        pendingIdentifiers.add(identifier.getName());
+        open(identifier);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        open(listAccessByIndex);
+        listAccessByIndex.getInstance().accept(this);
+        listAccessByIndex.getIndex().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(StructAccess structAccess) {
+        open(structAccess);
+        structAccess.getInstance().accept(this);
+        structAccess.getElement().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ListSize listSize) {
+        open(listSize);
+        listSize.getArg().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAppend listAppend) {
+        open(listAppend);
+        listAppend.getListArg().accept(this);
+        listAppend.getElementArg().accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(ExprInPar exprInPar) {
+        open(exprInPar);
+        for (Expression expression : exprInPar.getInputs())
+            expression.accept(this);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue intValue) {
+        open(intValue);
+        close();
+        return null;
+    }
+
+    @Override
+    public Void visit(BoolValue boolValue) {
+        open(boolValue);
+        close();
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package main.visitor.codeGenerator;
+
+import main.assembler.AssemblyResult;
+
+import java.util.*;
+
+public class IncrementalBuild {
+    private static class Entry<T> {
+        private final String fingerprint;
+        private final T value;
+
+        private Entry(String fingerprint, T value) {
+            this.fingerprint = fingerprint;
+            this.value = value;
+        }
+    }
+
+    private Map<String, Entry<String>> units = new HashMap<>();
+    private Map<String, Entry<String>> nextUnits = new HashMap<>();
+    private Map<String, Entry<byte[]>> classes = new HashMap<>();
+    private Map<String, String> nextClassFingerprints = new HashMap<>();
+    private int reusedUnits;
+    private int generatedUnits;
+
+    public void begin() {
+        nextUnits = new HashMap<>();
+        nextClassFingerprints = new HashMap<>();
+        reusedUnits = 0;
+        generatedUnits = 0;
+    }
+
+    public String reuseUnit(String unitName, String fingerprint) {
+        Entry<String> unit = units.get(unitName);
+        if (unit == null || !unit.fingerprint.equals(fingerprint))
+            return null;
+        nextUnits.put(unitName, unit);
+        reusedUnits++;
+        return unit.value;
+    }
+
+    public void putUnit(String unitName, String fingerprint, String text) {
+        nextUnits.put(unitName, new Entry<>(fingerprint, text));
+        generatedUnits++;
+    }
+
+    public void setClassFingerprint(String className, String fingerprint) {
+        nextClassFingerprints.put(className, fingerprint);
+    }
+
+    public byte[] reuseClass(String className) {
+        Entry<byte[]> classEntry = classes.get(className);
+        String fingerprint = nextClassFingerprints.get(className);
+        if (classEntry == null || !classEntry.fingerprint.equals(fingerprint))
+            return null;
+        return classEntry.value;
+    }
+
+    public void commit(List<AssemblyResult> results) {
+        Map<String, Entry<byte[]>> committed = new HashMap<>();
+        for (Map.Entry<String, String> classFingerprint : nextClassFingerprints.entrySet()) {
+            Entry<byte[]> classEntry = classes.get(classFingerprint.getKey());
+            if (classEntry != null && classEntry.fingerprint.equals(classFingerprint.getValue()))
+                committed.put(classFingerprint.getKey(), classEntry);
+        }
+        for (AssemblyResult result : results) {
+            String fingerprint = nextClassFingerprints.get(result.getClassName());
+            if (result.isSuccessful() && fingerprint != null)
+                committed.put(result.getClassName(), new Entry<>(fingerprint, result.getClassBytes()));
+        }
+        classes = committed;
+        units = nextUnits;
+    }
+
+    public int getReusedUnits() {
+        return reusedUnits;
+    }
+
+    public int getGeneratedUnits() {
+        return generatedUnits;
+    }
+}
@@ -1,4 +1,5 @@
 package main.visitor.name;
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
@@ -16,6 +17,7 @@ import main.visitor.Visitor;
 import java.util.ArrayList;
 
 public class NameAnalyser extends Visitor<Void> {
+    private final CompilationContext context;
 
     private int newId = 1;
     private boolean firstVisit = true;
@@ -23,23 +25,27 @@ public class NameAnalyser extends Visitor<Void> {
     private String curStructName;
     private final Graph<String> structHierarchy = new Graph<>();
 
+    public NameAnalyser(CompilationContext context) {
+        this.context = context;
+    }
+
     private void createStructSymbolTable(StructDeclaration structDec) {
         SymbolTable newSymbolTable = new SymbolTable();
         StructSymbolTableItem newSymbolTableItem = new StructSymbolTableItem(structDec);
         newSymbolTableItem.setStructSymbolTable(newSymbolTable);
         try {
-            SymbolTable.root.put(newSymbolTableItem);
+            context.getRoot().put(newSymbolTableItem);
 
         } catch (ItemAlreadyExistsException e) {
             DuplicateStruct exception = new DuplicateStruct(structDec.getLine(), structDec.getStructName().getName());
-            structDec.addError(exception);
+            context.addError(exception);
             String newName = newId + "@";
             newId += 1;
             structDec.setStructName(new Identifier(newName));
             try {
                 StructSymbolTableItem newStructSym = new StructSymbolTableItem(structDec);
                 newStructSym.setStructSymbolTable(newSymbolTable);
-                SymbolTable.root.put(newStructSym);
+                context.getRoot().put(newStructSym);
             } catch (ItemAlreadyExistsException e1) { //Unreachable
             }
         }
@@ -48,17 +54,17 @@ public class NameAnalyser extends Visitor<Void> {
     private void createFunctionSymbolTable(FunctionDeclaration funcDec) {
         FunctionSymbolTableItem newSymbolTableItem = new FunctionSymbolTableItem(funcDec);
         try {
-            SymbolTable.root.put(newSymbolTableItem);
+            context.getRoot().put(newSymbolTableItem);
 
         } catch (ItemAlreadyExistsException e) {
             DuplicateFunction exception = new DuplicateFunction(funcDec.getLine(), funcDec.getFunctionName().getName());
-            funcDec.addError(exception);
+            context.addError(exception);
             String newName = newId + "@";
             newId += 1;
             funcDec.setFunctionName(new Identifier(newName));
             try {
                 FunctionSymbolTableItem newFuncSym = new FunctionSymbolTableItem(funcDec);
-                SymbolTable.root.put(newFuncSym);
+                context.getRoot().put(newFuncSym);
             } catch (ItemAlreadyExistsException e1) { //Unreachable
             }
         }
@@ -66,7 +72,7 @@ public class NameAnalyser extends Visitor<Void> {
 
     private boolean hasConflict(String key) {
         try {
-            SymbolTable.root.getItem(key);
+            context.getRoot().getItem(key);
             return true;
         } catch (ItemNotFoundException exception) {
             return false;
@@ -78,7 +84,7 @@ public class NameAnalyser extends Visitor<Void> {
             String structName = struct.getStructName().getName();
             if(structHierarchy.isSecondNodeAncestorOf(structName, structName)){
                 CyclicDependency exception = new CyclicDependency(struct.getLine(), structName);
-                struct.addError(exception);
+                context.addError(exception);
             }
         }
     }
@@ -86,8 +92,8 @@ public class NameAnalyser extends Visitor<Void> {
     @Override
     public Void visit(Program program) {
         SymbolTable root = new SymbolTable();
-        SymbolTable.root = root;
-        SymbolTable.push(root);
+        context.setRoot(root);
+        context.push(root);
         for (StructDeclaration structDec : program.getStructs()) {
             createStructSymbolTable(structDec);
             try {
@@ -100,7 +106,7 @@ public class NameAnalyser extends Visitor<Void> {
         for (FunctionDeclaration funcDec : program.getFunctions()) {
             if (hasConflict(StructSymbolTableItem.START_KEY + funcDec.getFunctionName().getName())) {
                 FunctionStructConflict exception = new FunctionStructConflict(funcDec.getLine(), funcDec.getFunctionName().getName());
-                funcDec.addError(exception);
+                context.addError(exception);
             }
             createFunctionSymbolTable(funcDec);
         }
@@ -108,13 +114,13 @@ public class NameAnalyser extends Visitor<Void> {
         for (StructDeclaration structDec : program.getStructs()) {
             try {
                 String key = StructSymbolTableItem.START_KEY + structDec.getStructName().getName();
-                StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) SymbolTable.root.getItem(key);
-                SymbolTable.push(structSymbolTableItem.getStructSymbolTable());
+                StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) context.getRoot().getItem(key);
+                context.push(structSymbolTableItem.getStructSymbolTable());
                 isInStruct = true;
                 curStructName = structDec.getStructName().getName();
                 structDec.accept(this);
                 isInStruct = false;
-                SymbolTable.pop();
+                context.pop();
             } catch (ItemNotFoundException e) { //Unreachable
             }
         }
@@ -122,14 +128,14 @@ public class NameAnalyser extends Visitor<Void> {
         checkCycle(program.getStructs());
 
         for (FunctionDeclaration funcDec : program.getFunctions()) {
-            SymbolTable.push(new SymbolTable());
+            context.push(new SymbolTable());
             funcDec.accept(this);
-            SymbolTable.pop();
+            context.pop();
         }
 
-        SymbolTable.push(new SymbolTable());
+        context.push(new SymbolTable());
         program.getMain().accept(this);
-        SymbolTable.pop();
+        context.pop();
 
         return null;
     }
@@ -170,25 +176,25 @@ public class NameAnalyser extends Visitor<Void> {
 
     @Override
     public Void visit(ConditionalStmt conditionalStmt) {
-        SymbolTable ifScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(ifScope);
+        SymbolTable ifScope = new SymbolTable(context.getTop());
+        context.push(ifScope);
         conditionalStmt.getThenBody().accept(this);
-        SymbolTable.pop();
+        context.pop();
         if (conditionalStmt.getElseBody() != null) {
-            SymbolTable elseScope = new SymbolTable(SymbolTable.top);
-            SymbolTable.push(elseScope);
+            SymbolTable elseScope = new SymbolTable(context.getTop());
+            context.push(elseScope);
             conditionalStmt.getElseBody().accept(this);
-            SymbolTable.pop();
+            context.pop();
         }
         return null;
     }
 
     @Override
     public Void visit(LoopStmt loopStmt) {
-        SymbolTable loopScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(loopScope);
+        SymbolTable loopScope = new SymbolTable(context.getTop());
+        context.push(loopScope);
         loopStmt.getBody().accept(this);
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
@@ -214,7 +220,7 @@ public class NameAnalyser extends Visitor<Void> {
             FunctionSymbolTableItem newItem = new FunctionSymbolTableItem(funcDec);
             newItem.setFunctionSymbolTable(newSym);
             try {
-                SymbolTable.top.put(newItem);
+                context.getTop().put(newItem);
             } catch (ItemAlreadyExistsException e) {
                 setGetVarDeclaration.setVarName(new Identifier(name + "@" + newId));
                 funcDec.setFunctionName(new Identifier(name + "@" + newId));
@@ -222,7 +228,7 @@ public class NameAnalyser extends Visitor<Void> {
                 FunctionSymbolTableItem fSym = new FunctionSymbolTableItem(funcDec);
                 fSym.setFunctionSymbolTable(newSym);
                 try{
-                    SymbolTable.top.put(fSym);
+                    context.getTop().put(fSym);
                 }catch (ItemAlreadyExistsException e2) {//unreachable
                 }
             }
@@ -230,13 +236,13 @@ public class NameAnalyser extends Visitor<Void> {
         else {
             try {
                 String key = FunctionSymbolTableItem.START_KEY + name;
-                FunctionSymbolTableItem fItem = (FunctionSymbolTableItem) SymbolTable.top.getItem(key);
+                FunctionSymbolTableItem fItem = (FunctionSymbolTableItem) context.getTop().getItem(key);
                 SymbolTable sym = fItem.getFunctionSymbolTable();
-                sym.pre = SymbolTable.top;
-                SymbolTable.push(sym);
+                sym.pre = context.getTop();
+                context.push(sym);
                 for (VariableDeclaration arg : setGetVarDeclaration.getArgs())
                     arg.accept(this);
-                SymbolTable.pop();
+                context.pop();
             } catch (ItemNotFoundException e) {//unreachable
             }
         }
@@ -258,22 +264,22 @@ public class NameAnalyser extends Visitor<Void> {
 
         if (hasConflict(StructSymbolTableItem.START_KEY + name)) {
             VarStructConflict exception = new VarStructConflict(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(exception);
         }
 
         if (hasConflict(FunctionSymbolTableItem.START_KEY + name)) {
             VarFunctionConflict exception = new VarFunctionConflict(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(exception);
         }
 
         VariableSymbolTableItem variableSymbolTableItem = new VariableSymbolTableItem(variableDeclaration.getVarName());
         try {
-            SymbolTable.top.getItem(variableSymbolTableItem.getKey());
+            context.getTop().getItem(variableSymbolTableItem.getKey());
             DuplicateVar exception = new DuplicateVar(variableDeclaration.getLine(), name);
-            variableDeclaration.addError(exception);
+            context.addError(exception);
         } catch (ItemNotFoundException exception2) {
             try {
-                SymbolTable.top.put(variableSymbolTableItem);
+                context.getTop().put(variableSymbolTableItem);
             } catch (ItemAlreadyExistsException exception3) { //unreachable
             }
         }
@@ -1,5 +1,6 @@
 package main.visitor.type;
 
+import main.CompilationContext;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.operators.*;
 import main.ast.nodes.expression.values.primitive.*;
@@ -15,14 +16,31 @@ import main.compileError.typeError.*;
 import java.util.*;
 
 public class ExpressionTypeChecker extends Visitor<Type> {
+    private final CompilationContext context;
     private boolean inFunctionCallStmt = false;
     private boolean access = false;
     private String accessStructName;
+    private long checkedExpressions = 0;
+
+    public ExpressionTypeChecker(CompilationContext context) {
+        this.context = context;
+    }
 
     public void setInFunctionCallStmt(boolean inFunctionCallStmt) {
         this.inFunctionCallStmt = inFunctionCallStmt;
     }
 
+    public long getCheckedExpressions() {
+        return checkedExpressions;
+    }
+
+    public Type check(Expression expression) {
+        checkedExpressions++;
+        Type type = expression.accept(this);
+        expression.setType(type);
+        return type;
+    }
+
     public boolean sameType(Type el1,Type el2){
         if(el1 instanceof NoType || el2 instanceof NoType)
             return true;
@@ -63,7 +81,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public SymbolTable getStructSymbolTable(String name) {
         try {
             StructSymbolTableItem structItem = (StructSymbolTableItem)
-                    SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + name);
+                    context.getRoot().getItem(StructSymbolTableItem.START_KEY + name);
             return structItem.getStructSymbolTable();
         } catch (ItemNotFoundException ignored) {
             return null;
@@ -74,17 +92,17 @@ public class ExpressionTypeChecker extends Visitor<Type> {
        String name = id.getName();
        try {
            String funcKey = FunctionSymbolTableItem.START_KEY + name;
-           FunctionSymbolTableItem functionItem = (FunctionSymbolTableItem) SymbolTable.root.getItem(funcKey);
+           FunctionSymbolTableItem functionItem = (FunctionSymbolTableItem) context.getRoot().getItem(funcKey);
            return new FptrType(functionItem.getArgTypes(), functionItem.getReturnType());
            
        }catch (ItemNotFoundException e) {
            try {
                String varKey = VariableSymbolTableItem.START_KEY + name;
-               VariableSymbolTableItem varItem = (VariableSymbolTableItem) SymbolTable.top.getItem(varKey);
+               VariableSymbolTableItem varItem = (VariableSymbolTableItem) context.getTop().getItem(varKey);
                return varItem.getType();
            } catch (ItemNotFoundException e2) {
                VarNotDeclared exception = new VarNotDeclared(id.getLine(), name);
-               id.addError(exception);
+               context.addError(exception);
                return new NoType();
            }
        }
@@ -94,7 +112,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         if(expr instanceof Identifier){
             try {
                 String funcKey = FunctionSymbolTableItem.START_KEY + ((Identifier)expr).getName();
-                SymbolTable.root.getItem(funcKey);
+                context.getRoot().getItem(funcKey);
             }catch (ItemNotFoundException e) {
                 return true;
             }
@@ -114,8 +132,8 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         Expression left = binaryExpression.getFirstOperand();
         Expression right = binaryExpression.getSecondOperand();
 
-        Type tl = left.accept(this);
-        Type tr = right.accept(this);
+        Type tl = check(left);
+        Type tr = check(right);
         BinaryOperator operator =  binaryExpression.getBinaryOperator();
 
 
@@ -131,12 +149,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         else if(operator.equals(BinaryOperator.eq)) {
             if(tl instanceof ListType || tr instanceof ListType) {
                 UnsupportedOperandType exception = new UnsupportedOperandType(left.getLine(), operator.name());
-                binaryExpression.addError(exception);
+                context.addError(exception);
                 return new NoType();
             }
             if(!sameType(tl,tr)) {
                 UnsupportedOperandType exception = new UnsupportedOperandType(right.getLine(), operator.name());
-                binaryExpression.addError(exception);
+                context.addError(exception);
                 return new NoType();
             }
             else {
@@ -150,12 +168,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         else if(operator.equals(BinaryOperator.assign)) {
             if(!isLvalue(left)){
                 LeftSideNotLvalue exception = new LeftSideNotLvalue(binaryExpression.getLine());
-                binaryExpression.addError(exception);
+                context.addError(exception);
             }
 
             if(!sameType(tl,tr)) {
                 UnsupportedOperandType exception = new UnsupportedOperandType(right.getLine(), operator.name());
-                binaryExpression.addError(exception);
+                context.addError(exception);
                 return new NoType();
             }
             else {
@@ -185,7 +203,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
 
         UnsupportedOperandType exception = new UnsupportedOperandType(left.getLine(), operator.name());
-        left.addError(exception);
+        context.addError(exception);
         return new NoType();
 
     }
@@ -193,7 +211,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     @Override
     public Type visit(UnaryExpression unaryExpression) {
         Expression uExpr = unaryExpression.getOperand();
-        Type uType = uExpr.accept(this);
+        Type uType = check(uExpr);
         UnaryOperator operator = unaryExpression.getOperator();
 
         if(operator.equals(UnaryOperator.not)) {
@@ -201,7 +219,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 return new BoolType();
             if(!(uType instanceof NoType)){
                 UnsupportedOperandType exception = new UnsupportedOperandType(uExpr.getLine(), operator.name());
-                uExpr.addError(exception);
+                context.addError(exception);
             }
         }
         else { //-
@@ -209,7 +227,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 return new IntType();
             if(!(uType instanceof NoType)){
                 UnsupportedOperandType exception = new UnsupportedOperandType(uExpr.getLine(), operator.name());
-                uExpr.addError(exception);
+                context.addError(exception);
             }
         }
         return new NoType();
@@ -222,10 +240,10 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         ArrayList<Type> funcCallArgsType = new ArrayList<>();
 
         inFunctionCallStmt = false;
-        Type instanceType = funcCall.getInstance().accept(this);
+        Type instanceType = check(funcCall.getInstance());
 
         for (Expression expression : funcCall.getArgs()) {
-            Type t = expression.accept(this);
+            Type t = check(expression);
             funcCallArgsType.add(t);
         }
         inFunctionCallStmt = preInFunctionCallStmt;
@@ -235,7 +253,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if (!(instanceType instanceof FptrType )){
             CallOnNoneFptrType exception = new CallOnNoneFptrType(funcCall.getLine());
-            funcCall.addError(exception);
+            context.addError(exception);
             return new NoType();
         }
 
@@ -244,7 +262,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if (fptrType.getReturnType() instanceof VoidType && !inFunctionCallStmt){
             CantUseValueOfVoidFunction exception = new CantUseValueOfVoidFunction(funcCall.getLine());
-            funcCall.addError(exception);
+            context.addError(exception);
             err = true;
         }
         inFunctionCallStmt = false;
@@ -253,7 +271,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if (funcCallArgsType.size() != fptrArgsType.size()) {
             ArgsInFunctionCallNotMatchDefinition exception = new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine());
-            funcCall.addError(exception);
+            context.addError(exception);
             err = true;
         }
 
@@ -261,7 +279,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             for(int i = 0; i < fptrArgsType.size(); i += 1){
                 if (!sameType(fptrArgsType.get(i), funcCallArgsType.get(i))) {
                     ArgsInFunctionCallNotMatchDefinition exception = new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine());
-                    funcCall.addError(exception);
+                    context.addError(exception);
                     err = true;
                     break;
                 }
@@ -285,7 +303,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
             } catch (ItemNotFoundException i) {
                StructMemberNotFound exception = new StructMemberNotFound(identifier.getLine(), accessStructName, identifier.getName());
-               identifier.addError(exception);
+               context.addError(exception);
                return new NoType();
             }
         }
@@ -296,12 +314,12 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
     @Override
     public Type visit(ListAccessByIndex listAccessByIndex) {
-        Type indexType = listAccessByIndex.getIndex().accept(this);
-        Type instanceType = listAccessByIndex.getInstance().accept(this);
+        Type indexType = check(listAccessByIndex.getIndex());
+        Type instanceType = check(listAccessByIndex.getInstance());
 
         if(!(indexType instanceof IntType || indexType instanceof NoType)){
             ListIndexNotInt exception = new ListIndexNotInt(listAccessByIndex.getLine());
-            listAccessByIndex.addError(exception);
+            context.addError(exception);
         }
 
         if(instanceType instanceof NoType)
@@ -309,7 +327,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if(!(instanceType instanceof ListType)){
             AccessByIndexOnNonList exception = new AccessByIndexOnNonList(listAccessByIndex.getLine());
-            listAccessByIndex.addError(exception);
+            context.addError(exception);
             return new NoType();
         }
         else {
@@ -324,11 +342,11 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(StructAccess structAccess) {
         Expression instance = structAccess.getInstance();
         Identifier element = structAccess.getElement();
-        Type instanceType = instance.accept(this);
+        Type instanceType = check(instance);
         if (instanceType instanceof StructType) {
             access = true;
             accessStructName = ((StructType) instanceType).getStructName().getName();
-            Type memberType = element.accept(this);
+            Type memberType = check(element);
             access = false;
             return memberType;
         }
@@ -336,20 +354,20 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             return new NoType();
         else {
             AccessOnNonStruct exception = new AccessOnNonStruct(structAccess.getLine());
-            structAccess.addError(exception);
+            context.addError(exception);
             return new NoType();
         }
     }
 
     @Override
     public Type visit(ListSize listSize) {
-        Type type = listSize.getArg().accept(this);
+        Type type = check(listSize.getArg());
         if (type instanceof NoType)
             return new NoType();
         if (type instanceof ListType)
             return new IntType();
         GetSizeOfNonList exception = new GetSizeOfNonList(listSize.getLine());
-        listSize.addError(exception);
+        context.addError(exception);
         return new NoType();
     }
 
@@ -357,16 +375,16 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(ListAppend listAppend) {
         if (!inFunctionCallStmt){
             CantUseValueOfVoidFunction exception = new CantUseValueOfVoidFunction(listAppend.getLine());
-            listAppend.addError(exception);
+            context.addError(exception);
         }
         inFunctionCallStmt = false;
-        Type listType = listAppend.getListArg().accept(this);
-        Type elementType = listAppend.getElementArg().accept(this);
+        Type listType = check(listAppend.getListArg());
+        Type elementType = check(listAppend.getElementArg());
         if (listType instanceof NoType)
             return new NoType();
         if (!(listType instanceof ListType)) {
             AppendToNonList exception = new AppendToNonList(listAppend.getLine());
-            listAppend.addError(exception);
+            context.addError(exception);
             return new NoType();
         }
         if(elementType instanceof NoType)
@@ -374,14 +392,14 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if(!sameType(((ListType) listType).getType(), elementType)) {
             NewElementTypeNotMatchListType exception = new NewElementTypeNotMatchListType(listAppend.getLine());
-            listAppend.addError(exception);
+            context.addError(exception);
         }
         return new NoType();
     }
 
     @Override
     public Type visit(ExprInPar exprInPar) {
-        return exprInPar.getInputs().get(0).accept(this);
+        return check(exprInPar.getInputs().get(0));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package main.visitor.type;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
@@ -18,13 +19,24 @@ import main.visitor.Visitor;
 import java.util.*;
 
 public class TypeChecker extends Visitor<Void> {
-    private final ExpressionTypeChecker expressionTypeChecker = new ExpressionTypeChecker();
+    private final CompilationContext context;
+    private final ExpressionTypeChecker expressionTypeChecker;
     private FunctionDeclaration curFunction;
     private boolean validForReturn = true;
     private boolean validForVarDec = true;
     private boolean hasReturn = false;
+    private long visitedNodes = 0;
     Set<String> undefined = new HashSet<>();
 
+    public TypeChecker(CompilationContext context) {
+        this.context = context;
+        this.expressionTypeChecker = new ExpressionTypeChecker(context);
+    }
+
+    public long getVisitedNodes() {
+        return visitedNodes + expressionTypeChecker.getCheckedExpressions();
+    }
+
     public void checkForUndefinedStructs(Type type){
         if (type instanceof StructType){
             SymbolTable targetStruct = expressionTypeChecker.getStructSymbolTable(((StructType) type).getStructName().getName());
@@ -45,6 +57,7 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(Program program) {
+        visitedNodes++;
         for (StructDeclaration structDec: program.getStructs())
             structDec.accept(this);
         for (FunctionDeclaration functionDec: program.getFunctions())
@@ -55,10 +68,11 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(StructDeclaration structDec) {
+        visitedNodes++;
         String name = structDec.getStructName().getName();
         try {
-            StructSymbolTableItem structItem = (StructSymbolTableItem) SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + name);
-            SymbolTable.push(structItem.getStructSymbolTable());
+            StructSymbolTableItem structItem = (StructSymbolTableItem) context.getRoot().getItem(StructSymbolTableItem.START_KEY + name);
+            context.push(structItem.getStructSymbolTable());
             structDec.getBody().accept(this);
         } catch (ItemNotFoundException exception) {//unReachable
         }
@@ -67,6 +81,7 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(FunctionDeclaration functionDec) {
+        visitedNodes++;
         FunctionSymbolTableItem functionItem = new FunctionSymbolTableItem(functionDec);
         hasReturn = false;
         Type type = functionDec.getReturnType();
@@ -74,20 +89,20 @@ public class TypeChecker extends Visitor<Void> {
         checkForUndefinedStructs(type);
         for(String u : undefined){
             StructNotDeclared exception = new StructNotDeclared(functionDec.getLine(), u);
-            functionDec.addError(exception);
+            context.addError(exception);
             type =  new NoType();
         }
         undefined.clear();
 
         try {
             String funcKey = FunctionSymbolTableItem.START_KEY + functionDec.getFunctionName().getName();
-            functionItem = (FunctionSymbolTableItem) SymbolTable.root.getItem(funcKey);
+            functionItem = (FunctionSymbolTableItem) context.getRoot().getItem(funcKey);
             functionItem.setReturnType(type);
         }catch (ItemNotFoundException e) {//unreachable
         }
 
         SymbolTable newSymbolTable = new SymbolTable();
-        SymbolTable.push(newSymbolTable);
+        context.push(newSymbolTable);
         curFunction = functionDec;
 
         for(VariableDeclaration arg: functionDec.getArgs())
@@ -95,49 +110,51 @@ public class TypeChecker extends Visitor<Void> {
 
         functionDec.getBody().accept(this);
 
-        SymbolTable.pop();
+        context.pop();
         functionItem.setFunctionSymbolTable(newSymbolTable);
 
         if(!hasReturn && !(curFunction.getReturnType() instanceof VoidType)){
             MissingReturnStatement exception = new MissingReturnStatement(functionDec.getLine(), functionDec.getFunctionName().getName());
-            functionDec.addError(exception);
+            context.addError(exception);
         }
         return null;
     }
 
     @Override
     public Void visit(MainDeclaration mainDec) {
+        visitedNodes++;
         FunctionDeclaration functionDeclaration = new FunctionDeclaration();
         functionDeclaration.setFunctionName(new Identifier("main"));
         functionDeclaration.setReturnType(new VoidType());
         functionDeclaration.setArgs(new ArrayList<>());
         FunctionSymbolTableItem functionSymbolTableItem = new FunctionSymbolTableItem(functionDeclaration);
         try {
-            SymbolTable.root.put(functionSymbolTableItem);
+            context.getRoot().put(functionSymbolTableItem);
         }
         catch (ItemAlreadyExistsException e){//unreachable
         }
 
         SymbolTable newSymbolTable = new SymbolTable();
-        SymbolTable.push(newSymbolTable);
+        context.push(newSymbolTable);
         validForReturn = false;
         mainDec.getBody().accept(this);
         validForReturn = true;
-        SymbolTable.pop();
+        context.pop();
         functionSymbolTableItem.setFunctionSymbolTable(newSymbolTable);
         return null;
     }
 
     @Override
     public Void visit(VariableDeclaration variableDec) {
+        visitedNodes++;
         String name = variableDec.getVarName().getName();
         VariableSymbolTableItem varItem;
         try { //struct
-            varItem = (VariableSymbolTableItem) SymbolTable.top.getItem(VariableSymbolTableItem.START_KEY + name);
+            varItem = (VariableSymbolTableItem) context.getTop().getItem(VariableSymbolTableItem.START_KEY + name);
         } catch (ItemNotFoundException exception) { //function & main
             varItem = new VariableSymbolTableItem(variableDec.getVarName());
             try {
-                SymbolTable.top.put(varItem);
+                context.getTop().put(varItem);
             }catch (ItemAlreadyExistsException e) {//unReachable
             }
         }
@@ -146,17 +163,17 @@ public class TypeChecker extends Visitor<Void> {
         checkForUndefinedStructs(type);
         for(String u : undefined){
             StructNotDeclared exception = new StructNotDeclared(variableDec.getLine(), u);
-            variableDec.addError(exception);
+            context.addError(exception);
             type =  new NoType();
         }
         undefined.clear();
 
         varItem.setType(type);
         if (variableDec.getDefaultValue() != null) {
-            Type defaultType = variableDec.getDefaultValue().accept(expressionTypeChecker);
+            Type defaultType = expressionTypeChecker.check(variableDec.getDefaultValue());
             if (! expressionTypeChecker.sameType(varItem.getType(), defaultType)) {
                 UnsupportedOperandType exception = new UnsupportedOperandType(variableDec.getLine(), BinaryOperator.assign.name());
-                variableDec.addError(exception);
+                context.addError(exception);
             }
         }
         return null;
@@ -164,9 +181,10 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(SetGetVarDeclaration setGetVarDec) {
+        visitedNodes++;
         try {
             String varKey = VariableSymbolTableItem.START_KEY + setGetVarDec.getVarName().getName();
-            VariableSymbolTableItem varItem = (VariableSymbolTableItem) SymbolTable.top.getItem(varKey);
+            VariableSymbolTableItem varItem = (VariableSymbolTableItem) context.getTop().getItem(varKey);
             varItem.setType(setGetVarDec.getVarType());
         } catch (ItemNotFoundException exception) {//unreachable
         }
@@ -175,8 +193,8 @@ public class TypeChecker extends Visitor<Void> {
         newFuncDec.setReturnType(setGetVarDec.getVarType());
         curFunction = newFuncDec;
 
-        SymbolTable newSymbolTable = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(newSymbolTable);
+        SymbolTable newSymbolTable = new SymbolTable(context.getTop());
+        context.push(newSymbolTable);
 
         for(VariableDeclaration varDec : setGetVarDec.getArgs()){
             varDec.accept(this);
@@ -184,7 +202,7 @@ public class TypeChecker extends Visitor<Void> {
         validForReturn = false;
         validForVarDec = false;
         setGetVarDec.getSetterBody().accept(this);
-        SymbolTable.pop();
+        context.pop();
         validForReturn = true;
         setGetVarDec.getGetterBody().accept(this);
         validForVarDec = true;
@@ -193,25 +211,27 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(AssignmentStmt assignmentStmt) {
+        visitedNodes++;
         Expression lExpr = assignmentStmt.getLValue();
         Expression rExpr = assignmentStmt.getRValue();
-        Type lType = lExpr.accept(expressionTypeChecker);
-        Type rType = rExpr.accept(expressionTypeChecker);
+        Type lType = expressionTypeChecker.check(lExpr);
+        Type rType = expressionTypeChecker.check(rExpr);
 
         if(!expressionTypeChecker.isLvalue(lExpr)){
             LeftSideNotLvalue exception = new LeftSideNotLvalue(assignmentStmt.getLine());
-            assignmentStmt.addError(exception);
+            context.addError(exception);
         }
 
         if(!expressionTypeChecker.sameType(lType,rType)) {
             UnsupportedOperandType exception = new UnsupportedOperandType(assignmentStmt.getLine(), BinaryOperator.assign.name());
-            assignmentStmt.addError(exception);
+            context.addError(exception);
         }
         return null;
     }
 
     @Override
     public Void visit(BlockStmt blockStmt) {
+        visitedNodes++;
         for (Statement statement: blockStmt.getStatements())
             statement.accept(this);
         return null;
@@ -219,26 +239,27 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ConditionalStmt conditionalStmt) {
+        visitedNodes++;
         boolean hasReturnIf, hasReturnElse = false, hasReturnCur;
         hasReturnCur = hasReturn;
-        Type condType = conditionalStmt.getCondition().accept(expressionTypeChecker);
+        Type condType = expressionTypeChecker.check(conditionalStmt.getCondition());
         if(!(condType instanceof BoolType || condType instanceof NoType)) {
             ConditionNotBool exception = new ConditionNotBool(conditionalStmt.getLine());
-            conditionalStmt.addError(exception);
+            context.addError(exception);
         }
-        SymbolTable newSymbolTable = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(newSymbolTable);
+        SymbolTable newSymbolTable = new SymbolTable(context.getTop());
+        context.push(newSymbolTable);
         hasReturn = false;
         conditionalStmt.getThenBody().accept(this);
         hasReturnIf = hasReturn;
-        SymbolTable.pop();
+        context.pop();
         if(conditionalStmt.getElseBody() != null) {
-            newSymbolTable = new SymbolTable(SymbolTable.top);
-            SymbolTable.push(newSymbolTable);
+            newSymbolTable = new SymbolTable(context.getTop());
+            context.push(newSymbolTable);
             hasReturn = false;
             conditionalStmt.getElseBody().accept(this);
             hasReturnElse = hasReturn;
-            SymbolTable.pop();
+            context.pop();
         }
         if(hasReturnCur){
             hasReturn = true;
@@ -251,53 +272,57 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(FunctionCallStmt functionCallStmt) {
+        visitedNodes++;
         expressionTypeChecker.setInFunctionCallStmt(true);
-        functionCallStmt.getFunctionCall().accept(expressionTypeChecker);
+        expressionTypeChecker.check(functionCallStmt.getFunctionCall());
         expressionTypeChecker.setInFunctionCallStmt(false);
         return null;
     }
 
     @Override
     public Void visit(DisplayStmt displayStmt) {
-        Type argType =  displayStmt.getArg().accept(expressionTypeChecker);
+        visitedNodes++;
+        Type argType =  expressionTypeChecker.check(displayStmt.getArg());
         if(argType instanceof FptrType || argType instanceof StructType) {
             UnsupportedTypeForDisplay exception = new UnsupportedTypeForDisplay(displayStmt.getLine());
-            displayStmt.addError(exception);
+            context.addError(exception);
         }
         return null;
     }
 
     @Override
     public Void visit(ReturnStmt returnStmt) {
+        visitedNodes++;
         hasReturn = true;
         Type returnType = new VoidType();
         if (returnStmt.getReturnedExpr() != null)
-            returnType = returnStmt.getReturnedExpr().accept(expressionTypeChecker);
+            returnType = expressionTypeChecker.check(returnStmt.getReturnedExpr());
         if(!validForReturn){
             CannotUseReturn exception = new CannotUseReturn(returnStmt.getLine());
-            returnStmt.addError(exception);
+            context.addError(exception);
         }
         else if(!expressionTypeChecker.sameType(curFunction.getReturnType(), returnType)){
             ReturnValueNotMatchFunctionReturnType exception = new ReturnValueNotMatchFunctionReturnType(returnStmt.getLine());
-            returnStmt.addError(exception);
+            context.addError(exception);
         }
         return null;
     }
 
     @Override
     public Void visit(LoopStmt loopStmt) {
+        visitedNodes++;
         boolean hasReturnCur;
         hasReturnCur = hasReturn;
-        Type condType = loopStmt.getCondition().accept(expressionTypeChecker);
+        Type condType = expressionTypeChecker.check(loopStmt.getCondition());
         if(!(condType instanceof BoolType || condType instanceof NoType)) {
             ConditionNotBool exception = new ConditionNotBool(loopStmt.getLine());
-            loopStmt.addError(exception);
+            context.addError(exception);
         }
 
-        SymbolTable newSymbolTable = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(newSymbolTable);
+        SymbolTable newSymbolTable = new SymbolTable(context.getTop());
+        context.push(newSymbolTable);
         loopStmt.getBody().accept(this);
-        SymbolTable.pop();
+        context.pop();
 
         hasReturn = hasReturnCur;
         return null;
@@ -305,27 +330,30 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(VarDecStmt varDecStmt) {
+        visitedNodes++;
         for (VariableDeclaration varDec: varDecStmt.getVars())
             varDec.accept(this);
 
         if(!validForVarDec){
             CannotUseDefineVar exception = new CannotUseDefineVar(varDecStmt.getLine());
-            varDecStmt.addError(exception);
+            context.addError(exception);
         }
         return null;
     }
 
     @Override
     public Void visit(ListAppendStmt listAppendStmt) {
+        visitedNodes++;
         expressionTypeChecker.setInFunctionCallStmt(true);
-        listAppendStmt.getListAppendExpr().accept(expressionTypeChecker);
+        expressionTypeChecker.check(listAppendStmt.getListAppendExpr());
         expressionTypeChecker.setInFunctionCallStmt(false);
         return null;
     }
 
     @Override
     public Void visit(ListSizeStmt listSizeStmt) {
-        listSizeStmt.getListSizeExpr().accept(expressionTypeChecker);
+        visitedNodes++;
+        expressionTypeChecker.check(listSizeStmt.getListSizeExpr());
         return null;
     }
 }
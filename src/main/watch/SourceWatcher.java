@@ -0,0 +1,121 @@
+package main.watch;
+
+import main.CmmCompiler;
+import main.CompilationResult;
+import main.CompilerOptions;
+import main.visitor.codeGenerator.IncrementalBuild;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+public class SourceWatcher {
+    private static final long SETTLE_MILLIS = 50;
+    private final CompilerOptions options;
+    private final CmmCompiler cmmCompiler = new CmmCompiler();
+    private final Map<Path, IncrementalBuild> builds = new HashMap<>();
+    private final Map<Path, String> outputPaths = new HashMap<>();
+    private final Set<String> usedNames = new HashSet<>();
+    private String outputRoot = "output/";
+    private final Set<Path> watchedFiles = new HashSet<>();
+    private final Set<Path> watchedDirectories = new HashSet<>();
+
+    public SourceWatcher(CompilerOptions options) {
+        this.options = options;
+        options.configure(cmmCompiler);
+        cmmCompiler.setCaptureOutput(false);
+    }
+
+    public void setOutputRoot(String outputRoot) {
+        this.outputRoot = outputRoot;
+    }
+
+    public void watch(List<String> paths) throws IOException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Set<Path> registered = new HashSet<>();
+            for (String name : paths) {
+                Path path = Paths.get(name).toAbsolutePath().normalize();
+                Path directory = path;
+                if (Files.isDirectory(path))
+                    watchedDirectories.add(path);
+                else {
+                    watchedFiles.add(path);
+                    directory = path.getParent();
+                }
+                if (registered.add(directory))
+                    directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            }
+            Set<Path> initial = new TreeSet<>(watchedFiles);
+            for (Path directory : watchedDirectories)
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.cmm")) {
+                    for (Path file : files)
+                        if (Files.isRegularFile(file))
+                            initial.add(file);
+                }
+            for (Path file : initial)
+                compile(file);
+            System.out.println("\nWatching " + paths + " for changes");
+
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(SETTLE_MILLIS);
+                Set<Path> changed = new TreeSet<>();
+                do {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW)
+                            continue;
+                        Path file = directory.resolve((Path) event.context());
+                        if (isWatched(file))
+                            changed.add(file);
+                    }
+                    key.reset();
+                } while ((key = watchService.poll()) != null);
+                for (Path file : changed)
+                    compile(file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isWatched(Path file) {
+        if (watchedFiles.contains(file))
+            return true;
+        return file.toString().endsWith(".cmm") && watchedDirectories.contains(file.getParent())
+                && Files.isRegularFile(file);
+    }
+
+    private String outputPathOf(Path file) {
+        return outputPaths.computeIfAbsent(file, path -> {
+            String name = path.getFileName().toString().replaceAll("\\.cmm$", "");
+            String uniqueName = name;
+            for (int i = 2; !usedNames.add(uniqueName); i++)
+                uniqueName = name + "_" + i;
+            return outputRoot + uniqueName + "/";
+        });
+    }
+
+    private void compile(Path file) {
+        System.out.println("\n[watch] Compiling " + file);
+        long start = System.nanoTime();
+        try {
+            String outputPath = outputPathOf(file);
+            cmmCompiler.setOutputPath(outputPath);
+            if (options.getJarFile() != null)
+                cmmCompiler.setJarFile(new File(outputPath, options.getJarFile().getName()));
+            cmmCompiler.setIncrementalBuild(builds.computeIfAbsent(file, path -> new IncrementalBuild()));
+            CompilationResult result = cmmCompiler.compile(options.open(file.toString()));
+            options.report(result, System.out);
+            System.out.println(String.format("\n[watch] %s %s in %.2fms", file.getFileName(),
+                    result.isSuccessful() ? "succeeded" : "failed", (System.nanoTime() - start) / 1e6));
+        } catch (IOException e) {
+            System.out.println("[watch] " + e.getMessage());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -180,16 +180,6 @@ public interface CmmListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitVarDecStatement(CmmParser.VarDecStatementContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#functionCallStmt}.
-	 * @param ctx the parse tree
-	 */
-	void enterFunctionCallStmt(CmmParser.FunctionCallStmtContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#functionCallStmt}.
-	 * @param ctx the parse tree
-	 */
-	void exitFunctionCallStmt(CmmParser.FunctionCallStmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link CmmParser#returnStatement}.
 	 * @param ctx the parse tree
@@ -261,15 +251,15 @@ public interface CmmListener extends ParseTreeListener {
 	 */
 	void exitDisplayStatement(CmmParser.DisplayStatementContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link CmmParser#assignmentStatement}.
+	 * Enter a parse tree produced by {@link CmmParser#expressionStatement}.
 	 * @param ctx the parse tree
 	 */
-	void enterAssignmentStatement(CmmParser.AssignmentStatementContext ctx);
+	void enterExpressionStatement(CmmParser.ExpressionStatementContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link CmmParser#assignmentStatement}.
+	 * Exit a parse tree produced by {@link CmmParser#expressionStatement}.
 	 * @param ctx the parse tree
 	 */
-	void exitAssignmentStatement(CmmParser.AssignmentStatementContext ctx);
+	void exitExpressionStatement(CmmParser.ExpressionStatementContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link CmmParser#singleStatement}.
 	 * @param ctx the parse tree
@@ -291,75 +281,15 @@ public interface CmmListener extends ParseTreeListener {
 	 */
 	void exitExpression(CmmParser.ExpressionContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link CmmParser#orExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterOrExpression(CmmParser.OrExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#orExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitOrExpression(CmmParser.OrExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAndExpression(CmmParser.AndExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAndExpression(CmmParser.AndExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterEqualityExpression(CmmParser.EqualityExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitEqualityExpression(CmmParser.EqualityExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterRelationalExpression(CmmParser.RelationalExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitRelationalExpression(CmmParser.RelationalExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAdditiveExpression(CmmParser.AdditiveExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAdditiveExpression(CmmParser.AdditiveExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterMultiplicativeExpression(CmmParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CmmParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitMultiplicativeExpression(CmmParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CmmParser#preUnaryExpression}.
+	 * Enter a parse tree produced by {@link CmmParser#binaryExpression}.
 	 * @param ctx the parse tree
 	 */
-	void enterPreUnaryExpression(CmmParser.PreUnaryExpressionContext ctx);
+	void enterBinaryExpression(CmmParser.BinaryExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link CmmParser#preUnaryExpression}.
+	 * Exit a parse tree produced by {@link CmmParser#binaryExpression}.
 	 * @param ctx the parse tree
 	 */
-	void exitPreUnaryExpression(CmmParser.PreUnaryExpressionContext ctx);
+	void exitBinaryExpression(CmmParser.BinaryExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link CmmParser#accessExpression}.
 	 * @param ctx the parse tree
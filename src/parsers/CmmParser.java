@@ -41,25 +41,21 @@ public class CmmParser extends Parser {
 		RULE_singleVarWithGetAndSet = 4, RULE_singleStatementStructBody = 5, RULE_structBody = 6, 
 		RULE_getBody = 7, RULE_setBody = 8, RULE_functionDeclaration = 9, RULE_functionArgsDec = 10, 
 		RULE_functionArguments = 11, RULE_body = 12, RULE_loopCondBody = 13, RULE_blockStatement = 14, 
-		RULE_varDecStatement = 15, RULE_functionCallStmt = 16, RULE_returnStatement = 17, 
-		RULE_ifStatement = 18, RULE_elseStatement = 19, RULE_loopStatement = 20, 
-		RULE_whileLoopStatement = 21, RULE_doWhileLoopStatement = 22, RULE_displayStatement = 23, 
-		RULE_assignmentStatement = 24, RULE_singleStatement = 25, RULE_expression = 26, 
-		RULE_orExpression = 27, RULE_andExpression = 28, RULE_equalityExpression = 29, 
-		RULE_relationalExpression = 30, RULE_additiveExpression = 31, RULE_multiplicativeExpression = 32, 
-		RULE_preUnaryExpression = 33, RULE_accessExpression = 34, RULE_otherExpression = 35, 
-		RULE_size = 36, RULE_append = 37, RULE_value = 38, RULE_boolValue = 39, 
-		RULE_identifier = 40, RULE_type = 41, RULE_fptrType = 42;
+		RULE_varDecStatement = 15, RULE_returnStatement = 16, RULE_ifStatement = 17, 
+		RULE_elseStatement = 18, RULE_loopStatement = 19, RULE_whileLoopStatement = 20, 
+		RULE_doWhileLoopStatement = 21, RULE_displayStatement = 22, RULE_expressionStatement = 23, 
+		RULE_singleStatement = 24, RULE_expression = 25, RULE_binaryExpression = 26, 
+		RULE_accessExpression = 27, RULE_otherExpression = 28, RULE_size = 29, 
+		RULE_append = 30, RULE_value = 31, RULE_boolValue = 32, RULE_identifier = 33, 
+		RULE_type = 34, RULE_fptrType = 35;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"cmm", "program", "main", "structDeclaration", "singleVarWithGetAndSet", 
 			"singleStatementStructBody", "structBody", "getBody", "setBody", "functionDeclaration", 
 			"functionArgsDec", "functionArguments", "body", "loopCondBody", "blockStatement", 
-			"varDecStatement", "functionCallStmt", "returnStatement", "ifStatement", 
-			"elseStatement", "loopStatement", "whileLoopStatement", "doWhileLoopStatement", 
-			"displayStatement", "assignmentStatement", "singleStatement", "expression", 
-			"orExpression", "andExpression", "equalityExpression", "relationalExpression", 
-			"additiveExpression", "multiplicativeExpression", "preUnaryExpression", 
+			"varDecStatement", "returnStatement", "ifStatement", "elseStatement", 
+			"loopStatement", "whileLoopStatement", "doWhileLoopStatement", "displayStatement", 
+			"expressionStatement", "singleStatement", "expression", "binaryExpression", 
 			"accessExpression", "otherExpression", "size", "append", "value", "boolValue", 
 			"identifier", "type", "fptrType"
 		};
@@ -175,38 +171,38 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(89);
+			setState(75);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(86);
+				setState(72);
 				match(NEWLINE);
 				}
 				}
-				setState(91);
+				setState(77);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(92);
+			setState(78);
 			((CmmContext)_localctx).p = program();
 			((CmmContext)_localctx).cmmProgram =  ((CmmContext)_localctx).p.programRet;
-			setState(97);
+			setState(83);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(94);
+				setState(80);
 				match(NEWLINE);
 				}
 				}
-				setState(99);
+				setState(85);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(100);
+			setState(86);
 			match(EOF);
 			}
 		}
@@ -270,39 +266,39 @@ public class CmmParser extends Parser {
 			{
 			((ProgramContext)_localctx).programRet =  new Program();
 			     _localctx.programRet.setLine(1);
-			setState(108);
+			setState(94);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(103);
+					setState(89);
 					((ProgramContext)_localctx).s = structDeclaration();
 					_localctx.programRet.addStruct(((ProgramContext)_localctx).s.structDeclarationRet);
 					}
 					} 
 				}
-				setState(110);
+				setState(96);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			}
-			setState(116);
+			setState(102);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << VOID) | (1L << INT) | (1L << BOOL) | (1L << LIST) | (1L << STRUCT) | (1L << FPTR))) != 0)) {
 				{
 				{
-				setState(111);
+				setState(97);
 				((ProgramContext)_localctx).f = functionDeclaration();
 				_localctx.programRet.addFunction(((ProgramContext)_localctx).f.functionDeclarationRet);
 				}
 				}
-				setState(118);
+				setState(104);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(119);
+			setState(105);
 			((ProgramContext)_localctx).m = main();
 			_localctx.programRet.setMain(((ProgramContext)_localctx).m.mainRet);
 			}
@@ -354,13 +350,13 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((MainContext)_localctx).mainRet =  new MainDeclaration();
-			setState(123);
+			setState(109);
 			((MainContext)_localctx).m = match(MAIN);
-			setState(124);
+			setState(110);
 			match(LPAR);
-			setState(125);
+			setState(111);
 			match(RPAR);
-			setState(126);
+			setState(112);
 			((MainContext)_localctx).b = body();
 			_localctx.mainRet.setLine(((MainContext)_localctx).m.getLine());
 			     _localctx.mainRet.setBody(((MainContext)_localctx).b.bodyRet);
@@ -428,43 +424,43 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((StructDeclarationContext)_localctx).structDeclarationRet =  new StructDeclaration();
-			setState(130);
+			setState(116);
 			((StructDeclarationContext)_localctx).s = match(STRUCT);
-			setState(131);
+			setState(117);
 			((StructDeclarationContext)_localctx).id = identifier();
 
 			    _localctx.structDeclarationRet.setLine(((StructDeclarationContext)_localctx).s.getLine());
 			    _localctx.structDeclarationRet.setStructName(((StructDeclarationContext)_localctx).id.identifierRet);
 			    
-			setState(153);
+			setState(139);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				{
 				{
-				setState(133);
+				setState(119);
 				((StructDeclarationContext)_localctx).b = match(BEGIN);
-				setState(134);
+				setState(120);
 				((StructDeclarationContext)_localctx).sb = structBody();
 
 				    ((StructDeclarationContext)_localctx).sb.structBodyRet.setLine(((StructDeclarationContext)_localctx).b.getLine());
 				    _localctx.structDeclarationRet.setBody(((StructDeclarationContext)_localctx).sb.structBodyRet);
 				    
-				setState(137); 
+				setState(123); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(136);
+					setState(122);
 					match(NEWLINE);
 					}
 					}
-					setState(139); 
+					setState(125); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(141);
+				setState(127);
 				match(END);
 				}
 				}
@@ -472,31 +468,31 @@ public class CmmParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(144); 
+				setState(130); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(143);
+					setState(129);
 					match(NEWLINE);
 					}
 					}
-					setState(146); 
+					setState(132); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(148);
+				setState(134);
 				((StructDeclarationContext)_localctx).sss = singleStatementStructBody();
 
 				    _localctx.structDeclarationRet.setBody(((StructDeclarationContext)_localctx).sss.stmt);
 				    
-				setState(151);
+				setState(137);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==SEMICOLON) {
 					{
-					setState(150);
+					setState(136);
 					match(SEMICOLON);
 					}
 				}
@@ -507,17 +503,17 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(156); 
+			setState(142); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(155);
+				setState(141);
 				match(NEWLINE);
 				}
 				}
-				setState(158); 
+				setState(144); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -589,48 +585,48 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((SingleVarWithGetAndSetContext)_localctx).singleVarWithGetAndSetRet =  new SetGetVarDeclaration();
-			setState(161);
+			setState(147);
 			((SingleVarWithGetAndSetContext)_localctx).t = type();
-			setState(162);
+			setState(148);
 			((SingleVarWithGetAndSetContext)_localctx).id = identifier();
 
 			    _localctx.singleVarWithGetAndSetRet.setLine(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet.getLine());
 			    _localctx.singleVarWithGetAndSetRet.setVarName(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet);
 			    _localctx.singleVarWithGetAndSetRet.setVarType(((SingleVarWithGetAndSetContext)_localctx).t.typeRet);
 			    
-			setState(164);
+			setState(150);
 			((SingleVarWithGetAndSetContext)_localctx).fa = functionArgsDec();
 
 			    ArrayList<VariableDeclaration> args = ((SingleVarWithGetAndSetContext)_localctx).fa.functionArgsDecRet;
 			    _localctx.singleVarWithGetAndSetRet.setArgs(args);
 			    
-			setState(166);
+			setState(152);
 			match(BEGIN);
-			setState(168); 
+			setState(154); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(167);
+				setState(153);
 				match(NEWLINE);
 				}
 				}
-				setState(170); 
+				setState(156); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
-			setState(172);
+			setState(158);
 			((SingleVarWithGetAndSetContext)_localctx).sb = setBody();
 
 			    _localctx.singleVarWithGetAndSetRet.setSetterBody(((SingleVarWithGetAndSetContext)_localctx).sb.setBodyRet);
 			    
-			setState(174);
+			setState(160);
 			((SingleVarWithGetAndSetContext)_localctx).gb = getBody();
 
 			    _localctx.singleVarWithGetAndSetRet.setGetterBody(((SingleVarWithGetAndSetContext)_localctx).gb.getBodyRet);
 			    
-			setState(176);
+			setState(162);
 			match(END);
 			}
 		}
@@ -678,13 +674,13 @@ public class CmmParser extends Parser {
 		SingleStatementStructBodyContext _localctx = new SingleStatementStructBodyContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_singleStatementStructBody);
 		try {
-			setState(184);
+			setState(170);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(178);
+				setState(164);
 				((SingleStatementStructBodyContext)_localctx).v = varDecStatement();
 				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).v.varDecStatementRet;
 				}
@@ -692,7 +688,7 @@ public class CmmParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(181);
+				setState(167);
 				((SingleStatementStructBodyContext)_localctx).s = singleVarWithGetAndSet();
 				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).s.singleVarWithGetAndSetRet;
 				}
@@ -758,7 +754,7 @@ public class CmmParser extends Parser {
 
 			     ((StructBodyContext)_localctx).structBodyRet =  new BlockStmt();
 			    
-			setState(206); 
+			setState(192); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -766,52 +762,52 @@ public class CmmParser extends Parser {
 				case 1:
 					{
 					{
-					setState(188); 
+					setState(174); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(187);
+						setState(173);
 						match(NEWLINE);
 						}
 						}
-						setState(190); 
+						setState(176); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
-					setState(198);
+					setState(184);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(192);
+							setState(178);
 							((StructBodyContext)_localctx).s1 = singleStatementStructBody();
 
 							    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s1.stmt);
 							    
-							setState(194);
+							setState(180);
 							match(SEMICOLON);
 							}
 							} 
 						}
-						setState(200);
+						setState(186);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 					}
-					setState(201);
+					setState(187);
 					((StructBodyContext)_localctx).s2 = singleStatementStructBody();
 
 					    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s2.stmt);
 					    
-					setState(204);
+					setState(190);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==SEMICOLON) {
 						{
-						setState(203);
+						setState(189);
 						match(SEMICOLON);
 						}
 					}
@@ -822,7 +818,7 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(208); 
+				setState(194); 
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
@@ -876,22 +872,22 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(196);
 			match(GET);
-			setState(211);
+			setState(197);
 			((GetBodyContext)_localctx).b = body();
 			((GetBodyContext)_localctx).getBodyRet =  ((GetBodyContext)_localctx).b.bodyRet;
-			setState(214); 
+			setState(200); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(213);
+				setState(199);
 				match(NEWLINE);
 				}
 				}
-				setState(216); 
+				setState(202); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -945,22 +941,22 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(218);
+			setState(204);
 			match(SET);
-			setState(219);
+			setState(205);
 			((SetBodyContext)_localctx).b = body();
 			((SetBodyContext)_localctx).setBodyRet =  ((SetBodyContext)_localctx).b.bodyRet;
-			setState(222); 
+			setState(208); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(221);
+				setState(207);
 				match(NEWLINE);
 				}
 				}
-				setState(224); 
+				setState(210); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -1027,7 +1023,7 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionDeclarationContext)_localctx).functionDeclarationRet =  new FunctionDeclaration();
-			setState(232);
+			setState(218);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -1036,7 +1032,7 @@ public class CmmParser extends Parser {
 			case STRUCT:
 			case FPTR:
 				{
-				setState(227);
+				setState(213);
 				((FunctionDeclarationContext)_localctx).t = type();
 
 				    _localctx.functionDeclarationRet.setReturnType(((FunctionDeclarationContext)_localctx).t.typeRet);
@@ -1045,7 +1041,7 @@ public class CmmParser extends Parser {
 				break;
 			case VOID:
 				{
-				setState(230);
+				setState(216);
 				match(VOID);
 
 				    _localctx.functionDeclarationRet.setReturnType(new VoidType());
@@ -1055,11 +1051,11 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(234);
+			setState(220);
 			((FunctionDeclarationContext)_localctx).id = identifier();
-			setState(235);
+			setState(221);
 			((FunctionDeclarationContext)_localctx).f = functionArgsDec();
-			setState(236);
+			setState(222);
 			((FunctionDeclarationContext)_localctx).b = body();
 
 			    _localctx.functionDeclarationRet.setLine(((FunctionDeclarationContext)_localctx).id.identifierRet.getLine());
@@ -1067,17 +1063,17 @@ public class CmmParser extends Parser {
 			    _localctx.functionDeclarationRet.setArgs(((FunctionDeclarationContext)_localctx).f.functionArgsDecRet);
 			    _localctx.functionDeclarationRet.setBody(((FunctionDeclarationContext)_localctx).b.bodyRet);
 			    
-			setState(239); 
+			setState(225); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(238);
+				setState(224);
 				match(NEWLINE);
 				}
 				}
-				setState(241); 
+				setState(227); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -1145,33 +1141,33 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionArgsDecContext)_localctx).functionArgsDecRet =  new ArrayList<>();
-			setState(244);
+			setState(230);
 			match(LPAR);
-			setState(258);
+			setState(244);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << BOOL) | (1L << LIST) | (1L << STRUCT) | (1L << FPTR))) != 0)) {
 				{
-				setState(245);
+				setState(231);
 				((FunctionArgsDecContext)_localctx).t1 = type();
-				setState(246);
+				setState(232);
 				((FunctionArgsDecContext)_localctx).id1 = identifier();
 
 				    VariableDeclaration newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id1.identifierRet, ((FunctionArgsDecContext)_localctx).t1.typeRet);
 				    newVarDec.setLine(((FunctionArgsDecContext)_localctx).id1.identifierRet.getLine());
 				    _localctx.functionArgsDecRet.add(newVarDec);
 				    
-				setState(255);
+				setState(241);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(248);
+					setState(234);
 					match(COMMA);
-					setState(249);
+					setState(235);
 					((FunctionArgsDecContext)_localctx).t2 = type();
-					setState(250);
+					setState(236);
 					((FunctionArgsDecContext)_localctx).id2 = identifier();
 
 					    newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id2.identifierRet, ((FunctionArgsDecContext)_localctx).t2.typeRet);
@@ -1179,14 +1175,14 @@ public class CmmParser extends Parser {
 					    _localctx.functionArgsDecRet.add(newVarDec); 
 					}
 					}
-					setState(257);
+					setState(243);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(260);
+			setState(246);
 			match(RPAR);
 			}
 		}
@@ -1242,28 +1238,28 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionArgumentsContext)_localctx).funcArgRet =  new ArrayList<>();
-			setState(274);
+			setState(260);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
 				{
-				setState(263);
+				setState(249);
 				((FunctionArgumentsContext)_localctx).exp1 = expression();
 				_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp1.exprRet);
-				setState(271);
+				setState(257);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(265);
+					setState(251);
 					match(COMMA);
-					setState(266);
+					setState(252);
 					((FunctionArgumentsContext)_localctx).exp2 = expression();
 					_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp2.exprRet);
 					}
 					}
-					setState(273);
+					setState(259);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1324,12 +1320,12 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(275);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				{
-				setState(276);
+				setState(262);
 				((BodyContext)_localctx).b = blockStatement();
 				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).b.blockStatementRet;
 				}
@@ -1337,29 +1333,29 @@ public class CmmParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(280); 
+				setState(266); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(279);
+					setState(265);
 					match(NEWLINE);
 					}
 					}
-					setState(282); 
+					setState(268); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(284);
+				setState(270);
 				((BodyContext)_localctx).s = singleStatement();
 				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).s.singleStatementRet;
-				setState(287);
+				setState(273);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==SEMICOLON) {
 					{
-					setState(286);
+					setState(272);
 					match(SEMICOLON);
 					}
 				}
@@ -1423,12 +1419,12 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(288);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				{
-				setState(291);
+				setState(277);
 				((LoopCondBodyContext)_localctx).b = blockStatement();
 				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).b.blockStatementRet;
 				}
@@ -1436,21 +1432,21 @@ public class CmmParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(295); 
+				setState(281); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(294);
+					setState(280);
 					match(NEWLINE);
 					}
 					}
-					setState(297); 
+					setState(283); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(299);
+				setState(285);
 				((LoopCondBodyContext)_localctx).s = singleStatement();
 				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).s.singleStatementRet;
 				}
@@ -1521,12 +1517,12 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((BlockStatementContext)_localctx).blockStatementRet =  new BlockStmt();
-			setState(305);
+			setState(291);
 			((BlockStatementContext)_localctx).b = match(BEGIN);
 
 			    _localctx.blockStatementRet.setLine(((BlockStatementContext)_localctx).b.getLine());
 			    
-			setState(326); 
+			setState(312); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -1534,52 +1530,52 @@ public class CmmParser extends Parser {
 				case 1:
 					{
 					{
-					setState(308); 
+					setState(294); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(307);
+						setState(293);
 						match(NEWLINE);
 						}
 						}
-						setState(310); 
+						setState(296); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
-					setState(318);
+					setState(298);
+					((BlockStatementContext)_localctx).s1 = singleStatement();
+
+					    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s1.singleStatementRet);
+					    
+					setState(306);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(312);
-							((BlockStatementContext)_localctx).s1 = singleStatement();
+							setState(300);
+							match(SEMICOLON);
+							setState(301);
+							((BlockStatementContext)_localctx).s2 = singleStatement();
 
-							    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s1.singleStatementRet);
+							    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s2.singleStatementRet);
 							    
-							setState(314);
-							match(SEMICOLON);
 							}
 							} 
 						}
-						setState(320);
+						setState(308);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 					}
-					setState(321);
-					((BlockStatementContext)_localctx).s2 = singleStatement();
-
-					    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s2.singleStatementRet);
-					    
-					setState(324);
+					setState(310);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==SEMICOLON) {
 						{
-						setState(323);
+						setState(309);
 						match(SEMICOLON);
 						}
 					}
@@ -1590,25 +1586,25 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(328); 
+				setState(314); 
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			setState(331); 
+			setState(317); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(330);
+				setState(316);
 				match(NEWLINE);
 				}
 				}
-				setState(333); 
+				setState(319); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
-			setState(335);
+			setState(321);
 			match(END);
 			}
 		}
@@ -1627,9 +1623,9 @@ public class CmmParser extends Parser {
 		public VarDecStmt varDecStatementRet;
 		public TypeContext t;
 		public IdentifierContext id1;
-		public OrExpressionContext exp1;
+		public BinaryExpressionContext exp1;
 		public IdentifierContext id2;
-		public OrExpressionContext exp2;
+		public BinaryExpressionContext exp2;
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -1647,11 +1643,11 @@ public class CmmParser extends Parser {
 		public TerminalNode COMMA(int i) {
 			return getToken(CmmParser.COMMA, i);
 		}
-		public List<OrExpressionContext> orExpression() {
-			return getRuleContexts(OrExpressionContext.class);
+		public List<BinaryExpressionContext> binaryExpression() {
+			return getRuleContexts(BinaryExpressionContext.class);
 		}
-		public OrExpressionContext orExpression(int i) {
-			return getRuleContext(OrExpressionContext.class,i);
+		public BinaryExpressionContext binaryExpression(int i) {
+			return getRuleContext(BinaryExpressionContext.class,i);
 		}
 		public VarDecStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1680,60 +1676,60 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((VarDecStatementContext)_localctx).varDecStatementRet =  new VarDecStmt();
-			setState(338);
+			setState(324);
 			((VarDecStatementContext)_localctx).t = type();
-			setState(339);
+			setState(325);
 			((VarDecStatementContext)_localctx).id1 = identifier();
 
 			    VariableDeclaration newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id1.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
 			    newVarDec.setLine(((VarDecStatementContext)_localctx).id1.identifierRet.getLine());
 			    _localctx.varDecStatementRet.setLine(newVarDec.getLine());
 			    
-			setState(345);
+			setState(331);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(341);
+				setState(327);
 				match(ASSIGN);
-				setState(342);
-				((VarDecStatementContext)_localctx).exp1 = orExpression();
-				newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp1.orExprRet);
+				setState(328);
+				((VarDecStatementContext)_localctx).exp1 = binaryExpression(0);
+				newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp1.binaryExprRet);
 				}
 			}
 
 			_localctx.varDecStatementRet.addVar(newVarDec);
-			setState(361);
+			setState(347);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(348);
+				setState(334);
 				match(COMMA);
-				setState(349);
+				setState(335);
 				((VarDecStatementContext)_localctx).id2 = identifier();
 
 				    newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id2.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
 				    newVarDec.setLine(((VarDecStatementContext)_localctx).id2.identifierRet.getLine());
 				    
-				setState(355);
+				setState(341);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==ASSIGN) {
 					{
-					setState(351);
+					setState(337);
 					match(ASSIGN);
-					setState(352);
-					((VarDecStatementContext)_localctx).exp2 = orExpression();
-					newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp2.orExprRet);
+					setState(338);
+					((VarDecStatementContext)_localctx).exp2 = binaryExpression(0);
+					newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp2.binaryExprRet);
 					}
 				}
 
 				_localctx.varDecStatementRet.addVar(newVarDec);
 				}
 				}
-				setState(363);
+				setState(349);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1750,141 +1746,6 @@ public class CmmParser extends Parser {
 		return _localctx;
 	}
 
-	public static class FunctionCallStmtContext extends ParserRuleContext {
-		public FunctionCallStmt functionCallStmtRet;
-		public Expression expr;
-		public FunctionCall fcall;
-		public OtherExpressionContext oth;
-		public Token l;
-		public FunctionArgumentsContext f;
-		public IdentifierContext i;
-		public Token ll;
-		public FunctionArgumentsContext ff;
-		public OtherExpressionContext otherExpression() {
-			return getRuleContext(OtherExpressionContext.class,0);
-		}
-		public List<TerminalNode> RPAR() { return getTokens(CmmParser.RPAR); }
-		public TerminalNode RPAR(int i) {
-			return getToken(CmmParser.RPAR, i);
-		}
-		public List<TerminalNode> LPAR() { return getTokens(CmmParser.LPAR); }
-		public TerminalNode LPAR(int i) {
-			return getToken(CmmParser.LPAR, i);
-		}
-		public List<FunctionArgumentsContext> functionArguments() {
-			return getRuleContexts(FunctionArgumentsContext.class);
-		}
-		public FunctionArgumentsContext functionArguments(int i) {
-			return getRuleContext(FunctionArgumentsContext.class,i);
-		}
-		public List<TerminalNode> DOT() { return getTokens(CmmParser.DOT); }
-		public TerminalNode DOT(int i) {
-			return getToken(CmmParser.DOT, i);
-		}
-		public List<IdentifierContext> identifier() {
-			return getRuleContexts(IdentifierContext.class);
-		}
-		public IdentifierContext identifier(int i) {
-			return getRuleContext(IdentifierContext.class,i);
-		}
-		public FunctionCallStmtContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_functionCallStmt; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterFunctionCallStmt(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitFunctionCallStmt(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitFunctionCallStmt(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final FunctionCallStmtContext functionCallStmt() throws RecognitionException {
-		FunctionCallStmtContext _localctx = new FunctionCallStmtContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_functionCallStmt);
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(364);
-			((FunctionCallStmtContext)_localctx).oth = otherExpression();
-			((FunctionCallStmtContext)_localctx).expr =  ((FunctionCallStmtContext)_localctx).oth.expr;
-			setState(377);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					setState(375);
-					_errHandler.sync(this);
-					switch (_input.LA(1)) {
-					case LPAR:
-						{
-						{
-						setState(366);
-						((FunctionCallStmtContext)_localctx).l = match(LPAR);
-						setState(367);
-						((FunctionCallStmtContext)_localctx).f = functionArguments();
-						setState(368);
-						match(RPAR);
-						((FunctionCallStmtContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).f.funcArgRet);
-						      _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).l.getLine());
-						}
-						}
-						break;
-					case DOT:
-						{
-						{
-						setState(371);
-						match(DOT);
-						setState(372);
-						((FunctionCallStmtContext)_localctx).i = identifier();
-						((FunctionCallStmtContext)_localctx).expr =  new StructAccess(_localctx.expr, ((FunctionCallStmtContext)_localctx).i.identifierRet);
-						       _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).i.line);
-						}
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
-					}
-					} 
-				}
-				setState(379);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
-			}
-			{
-			setState(380);
-			((FunctionCallStmtContext)_localctx).ll = match(LPAR);
-			setState(381);
-			((FunctionCallStmtContext)_localctx).ff = functionArguments();
-			setState(382);
-			match(RPAR);
-			((FunctionCallStmtContext)_localctx).fcall =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).ff.funcArgRet);
-			      _localctx.fcall.setLine(((FunctionCallStmtContext)_localctx).ll.getLine());
-			}
-			((FunctionCallStmtContext)_localctx).functionCallStmtRet =  new FunctionCallStmt(_localctx.fcall);
-			      _localctx.functionCallStmtRet.setLine(_localctx.fcall.getLine());
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	public static class ReturnStatementContext extends ParserRuleContext {
 		public ReturnStmt returnStatementRet;
 		public Token r;
@@ -1914,21 +1775,21 @@ public class CmmParser extends Parser {
 
 	public final ReturnStatementContext returnStatement() throws RecognitionException {
 		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_returnStatement);
+		enterRule(_localctx, 32, RULE_returnStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			((ReturnStatementContext)_localctx).returnStatementRet =  new ReturnStmt();
-			setState(388);
+			setState(351);
 			((ReturnStatementContext)_localctx).r = match(RETURN);
 			_localctx.returnStatementRet.setLine(((ReturnStatementContext)_localctx).r.getLine());
-			setState(393);
+			setState(356);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
 				{
-				setState(390);
+				setState(353);
 				((ReturnStatementContext)_localctx).exp = expression();
 				_localctx.returnStatementRet.setReturnedExpr(((ReturnStatementContext)_localctx).exp.exprRet);
 				}
@@ -1951,22 +1812,27 @@ public class CmmParser extends Parser {
 		public ConditionalStmt ifStatementRet;
 		public Token cond;
 		public ExpressionContext exp;
-		public LoopCondBodyContext body1;
-		public BodyContext body2;
+		public BlockStatementContext b;
 		public ElseStatementContext elsest;
+		public SingleStatementContext s;
 		public TerminalNode IF() { return getToken(CmmParser.IF, 0); }
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
-		public LoopCondBodyContext loopCondBody() {
-			return getRuleContext(LoopCondBodyContext.class,0);
+		public BlockStatementContext blockStatement() {
+			return getRuleContext(BlockStatementContext.class,0);
 		}
-		public BodyContext body() {
-			return getRuleContext(BodyContext.class,0);
+		public SingleStatementContext singleStatement() {
+			return getRuleContext(SingleStatementContext.class,0);
+		}
+		public List<TerminalNode> NEWLINE() { return getTokens(CmmParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(CmmParser.NEWLINE, i);
 		}
 		public ElseStatementContext elseStatement() {
 			return getRuleContext(ElseStatementContext.class,0);
 		}
+		public TerminalNode SEMICOLON() { return getToken(CmmParser.SEMICOLON, 0); }
 		public IfStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1988,36 +1854,82 @@ public class CmmParser extends Parser {
 
 	public final IfStatementContext ifStatement() throws RecognitionException {
 		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_ifStatement);
+		enterRule(_localctx, 34, RULE_ifStatement);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(395);
+			setState(358);
 			((IfStatementContext)_localctx).cond = match(IF);
-			setState(396);
+			setState(359);
 			((IfStatementContext)_localctx).exp = expression();
 			((IfStatementContext)_localctx).ifStatementRet =  new ConditionalStmt(((IfStatementContext)_localctx).exp.exprRet);
 			     _localctx.ifStatementRet.setLine(((IfStatementContext)_localctx).cond.getLine());
-			setState(406);
+			setState(383);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case BEGIN:
 				{
-				setState(398);
-				((IfStatementContext)_localctx).body1 = loopCondBody();
-				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).body1.stmtRet);
+				setState(361);
+				((IfStatementContext)_localctx).b = blockStatement();
+				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).b.blockStatementRet);
+				setState(366);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+				case 1:
+					{
+					setState(363);
+					((IfStatementContext)_localctx).elsest = elseStatement();
+					_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest.stmt);
+					}
+					break;
+				}
 				}
 				break;
-			case 2:
+			case NEWLINE:
 				{
-				setState(401);
-				((IfStatementContext)_localctx).body2 = body();
-				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).body2.bodyRet);
-				setState(403);
-				((IfStatementContext)_localctx).elsest = elseStatement();
-				_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest.stmt);
+				setState(369); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(368);
+					match(NEWLINE);
+					}
+					}
+					setState(371); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( _la==NEWLINE );
+				setState(373);
+				((IfStatementContext)_localctx).s = singleStatement();
+				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).s.singleStatementRet);
+				setState(381);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+				case 1:
+					{
+					setState(376);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					if (_la==SEMICOLON) {
+						{
+						setState(375);
+						match(SEMICOLON);
+						}
+					}
+
+					setState(378);
+					((IfStatementContext)_localctx).elsest = elseStatement();
+					_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest.stmt);
+					}
+					break;
+				}
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 			}
 		}
@@ -2064,28 +1976,28 @@ public class CmmParser extends Parser {
 
 	public final ElseStatementContext elseStatement() throws RecognitionException {
 		ElseStatementContext _localctx = new ElseStatementContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_elseStatement);
+		enterRule(_localctx, 36, RULE_elseStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(411);
+			setState(388);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(408);
+				setState(385);
 				match(NEWLINE);
 				}
 				}
-				setState(413);
+				setState(390);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(414);
+			setState(391);
 			match(ELSE);
-			setState(415);
+			setState(392);
 			((ElseStatementContext)_localctx).bd = loopCondBody();
 			((ElseStatementContext)_localctx).stmt =  ((ElseStatementContext)_localctx).bd.stmtRet;
 			}
@@ -2132,15 +2044,15 @@ public class CmmParser extends Parser {
 
 	public final LoopStatementContext loopStatement() throws RecognitionException {
 		LoopStatementContext _localctx = new LoopStatementContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_loopStatement);
+		enterRule(_localctx, 38, RULE_loopStatement);
 		try {
-			setState(424);
+			setState(401);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case WHILE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(418);
+				setState(395);
 				((LoopStatementContext)_localctx).st1 = whileLoopStatement();
 				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st1.stmt;
 				}
@@ -2148,7 +2060,7 @@ public class CmmParser extends Parser {
 			case DO:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(421);
+				setState(398);
 				((LoopStatementContext)_localctx).st2 = doWhileLoopStatement();
 				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st2.stmt;
 				}
@@ -2201,19 +2113,19 @@ public class CmmParser extends Parser {
 
 	public final WhileLoopStatementContext whileLoopStatement() throws RecognitionException {
 		WhileLoopStatementContext _localctx = new WhileLoopStatementContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_whileLoopStatement);
+		enterRule(_localctx, 40, RULE_whileLoopStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			((WhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
 			     _localctx.stmt.setIsDoWhile(false);
-			setState(427);
+			setState(404);
 			((WhileLoopStatementContext)_localctx).w = match(WHILE);
-			setState(428);
+			setState(405);
 			((WhileLoopStatementContext)_localctx).exp = expression();
 			_localctx.stmt.setCondition(((WhileLoopStatementContext)_localctx).exp.exprRet);
 			     _localctx.stmt.setLine(((WhileLoopStatementContext)_localctx).w.getLine());
-			setState(430);
+			setState(407);
 			((WhileLoopStatementContext)_localctx).bd = loopCondBody();
 			_localctx.stmt.setBody(((WhileLoopStatementContext)_localctx).bd.stmtRet);
 			}
@@ -2267,36 +2179,36 @@ public class CmmParser extends Parser {
 
 	public final DoWhileLoopStatementContext doWhileLoopStatement() throws RecognitionException {
 		DoWhileLoopStatementContext _localctx = new DoWhileLoopStatementContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_doWhileLoopStatement);
+		enterRule(_localctx, 42, RULE_doWhileLoopStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			((DoWhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
 			     _localctx.stmt.setIsDoWhile(true);
-			setState(434);
+			setState(411);
 			((DoWhileLoopStatementContext)_localctx).d = match(DO);
-			setState(435);
+			setState(412);
 			((DoWhileLoopStatementContext)_localctx).bd = body();
 			_localctx.stmt.setBody(((DoWhileLoopStatementContext)_localctx).bd.bodyRet);
 			     _localctx.stmt.setLine(((DoWhileLoopStatementContext)_localctx).d.getLine());
-			setState(440);
+			setState(417);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(437);
+				setState(414);
 				match(NEWLINE);
 				}
 				}
-				setState(442);
+				setState(419);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(443);
+			setState(420);
 			match(WHILE);
-			setState(444);
+			setState(421);
 			((DoWhileLoopStatementContext)_localctx).exp = expression();
 			_localctx.stmt.setCondition(((DoWhileLoopStatementContext)_localctx).exp.exprRet);
 			}
@@ -2343,19 +2255,19 @@ public class CmmParser extends Parser {
 
 	public final DisplayStatementContext displayStatement() throws RecognitionException {
 		DisplayStatementContext _localctx = new DisplayStatementContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_displayStatement);
+		enterRule(_localctx, 44, RULE_displayStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(447);
+			setState(424);
 			((DisplayStatementContext)_localctx).dis = match(DISPLAY);
-			setState(448);
+			setState(425);
 			match(LPAR);
-			setState(449);
+			setState(426);
 			((DisplayStatementContext)_localctx).exp = expression();
 			((DisplayStatementContext)_localctx).displayStatementRet =  new DisplayStmt(((DisplayStatementContext)_localctx).exp.exprRet);
 			   _localctx.displayStatementRet.setLine(((DisplayStatementContext)_localctx).dis.getLine());
-			setState(451);
+			setState(428);
 			match(RPAR);
 			}
 		}
@@ -2370,51 +2282,81 @@ public class CmmParser extends Parser {
 		return _localctx;
 	}
 
-	public static class AssignmentStatementContext extends ParserRuleContext {
-		public AssignmentStmt assignmentStatementRet;
-		public OrExpressionContext left;
+	public static class ExpressionStatementContext extends ParserRuleContext {
+		public Statement statementRet;
+		public Expression expr;
+		public BinaryExpressionContext left;
 		public Token a;
 		public ExpressionContext right;
-		public OrExpressionContext orExpression() {
-			return getRuleContext(OrExpressionContext.class,0);
+		public BinaryExpressionContext binaryExpression() {
+			return getRuleContext(BinaryExpressionContext.class,0);
 		}
 		public TerminalNode ASSIGN() { return getToken(CmmParser.ASSIGN, 0); }
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
-		public AssignmentStatementContext(ParserRuleContext parent, int invokingState) {
+		public ExpressionStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_assignmentStatement; }
+		@Override public int getRuleIndex() { return RULE_expressionStatement; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterAssignmentStatement(this);
+			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterExpressionStatement(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitAssignmentStatement(this);
+			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitExpressionStatement(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitAssignmentStatement(this);
+			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitExpressionStatement(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final AssignmentStatementContext assignmentStatement() throws RecognitionException {
-		AssignmentStatementContext _localctx = new AssignmentStatementContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_assignmentStatement);
+	public final ExpressionStatementContext expressionStatement() throws RecognitionException {
+		ExpressionStatementContext _localctx = new ExpressionStatementContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_expressionStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(453);
-			((AssignmentStatementContext)_localctx).left = orExpression();
-			setState(454);
-			((AssignmentStatementContext)_localctx).a = match(ASSIGN);
-			setState(455);
-			((AssignmentStatementContext)_localctx).right = expression();
-			((AssignmentStatementContext)_localctx).assignmentStatementRet =  new AssignmentStmt(((AssignmentStatementContext)_localctx).left.orExprRet, ((AssignmentStatementContext)_localctx).right.exprRet);
-			     _localctx.assignmentStatementRet.setLine(((AssignmentStatementContext)_localctx).a.getLine());
+			setState(430);
+			((ExpressionStatementContext)_localctx).left = binaryExpression(0);
+			((ExpressionStatementContext)_localctx).expr =  ((ExpressionStatementContext)_localctx).left.binaryExprRet;
+			setState(437);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case ASSIGN:
+				{
+				setState(432);
+				((ExpressionStatementContext)_localctx).a = match(ASSIGN);
+				setState(433);
+				((ExpressionStatementContext)_localctx).right = expression();
+				((ExpressionStatementContext)_localctx).statementRet =  new AssignmentStmt(_localctx.expr, ((ExpressionStatementContext)_localctx).right.exprRet);
+				     _localctx.statementRet.setLine(((ExpressionStatementContext)_localctx).a.getLine());
+				}
+				break;
+			case EOF:
+			case ELSE:
+			case WHILE:
+			case SEMICOLON:
+			case NEWLINE:
+				{
+				if (_localctx.expr instanceof FunctionCall)
+				           ((ExpressionStatementContext)_localctx).statementRet =  new FunctionCallStmt((FunctionCall) _localctx.expr);
+				       else if (_localctx.expr instanceof ListAppend)
+				           ((ExpressionStatementContext)_localctx).statementRet =  new ListAppendStmt((ListAppend) _localctx.expr);
+				       else if (_localctx.expr instanceof ListSize)
+				           ((ExpressionStatementContext)_localctx).statementRet =  new ListSizeStmt((ListSize) _localctx.expr);
+				       else
+				           notifyErrorListeners((((ExpressionStatementContext)_localctx).left!=null?(((ExpressionStatementContext)_localctx).left.start):null), "expected an assignment, function call, append or size statement", null);
+				       if (_localctx.statementRet != null)
+				           _localctx.statementRet.setLine(_localctx.expr.getLine());
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2432,39 +2374,27 @@ public class CmmParser extends Parser {
 		public Statement singleStatementRet;
 		public IfStatementContext i;
 		public DisplayStatementContext d;
-		public FunctionCallStmtContext f;
 		public ReturnStatementContext r;
-		public AssignmentStatementContext a;
 		public VarDecStatementContext v;
 		public LoopStatementContext l;
-		public AppendContext ap;
-		public SizeContext s;
+		public ExpressionStatementContext e;
 		public IfStatementContext ifStatement() {
 			return getRuleContext(IfStatementContext.class,0);
 		}
 		public DisplayStatementContext displayStatement() {
 			return getRuleContext(DisplayStatementContext.class,0);
 		}
-		public FunctionCallStmtContext functionCallStmt() {
-			return getRuleContext(FunctionCallStmtContext.class,0);
-		}
 		public ReturnStatementContext returnStatement() {
 			return getRuleContext(ReturnStatementContext.class,0);
 		}
-		public AssignmentStatementContext assignmentStatement() {
-			return getRuleContext(AssignmentStatementContext.class,0);
-		}
 		public VarDecStatementContext varDecStatement() {
 			return getRuleContext(VarDecStatementContext.class,0);
 		}
 		public LoopStatementContext loopStatement() {
 			return getRuleContext(LoopStatementContext.class,0);
 		}
-		public AppendContext append() {
-			return getRuleContext(AppendContext.class,0);
-		}
-		public SizeContext size() {
-			return getRuleContext(SizeContext.class,0);
+		public ExpressionStatementContext expressionStatement() {
+			return getRuleContext(ExpressionStatementContext.class,0);
 		}
 		public SingleStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -2487,88 +2417,75 @@ public class CmmParser extends Parser {
 
 	public final SingleStatementContext singleStatement() throws RecognitionException {
 		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_singleStatement);
+		enterRule(_localctx, 48, RULE_singleStatement);
 		try {
-			setState(485);
+			setState(457);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case IF:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(458);
+				setState(439);
 				((SingleStatementContext)_localctx).i = ifStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).i.ifStatementRet;
 				}
 				break;
-			case 2:
+			case DISPLAY:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(461);
+				setState(442);
 				((SingleStatementContext)_localctx).d = displayStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).d.displayStatementRet;
 				}
 				break;
-			case 3:
+			case RETURN:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(464);
-				((SingleStatementContext)_localctx).f = functionCallStmt();
-				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).f.functionCallStmtRet;
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(467);
+				setState(445);
 				((SingleStatementContext)_localctx).r = returnStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).r.returnStatementRet;
 				}
 				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(470);
-				((SingleStatementContext)_localctx).a = assignmentStatement();
-				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).a.assignmentStatementRet;
-				}
-				break;
-			case 6:
-				enterOuterAlt(_localctx, 6);
+			case INT:
+			case BOOL:
+			case LIST:
+			case STRUCT:
+			case FPTR:
+				enterOuterAlt(_localctx, 4);
 				{
-				setState(473);
+				setState(448);
 				((SingleStatementContext)_localctx).v = varDecStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).v.varDecStatementRet;
 				}
 				break;
-			case 7:
-				enterOuterAlt(_localctx, 7);
+			case WHILE:
+			case DO:
+				enterOuterAlt(_localctx, 5);
 				{
-				setState(476);
+				setState(451);
 				((SingleStatementContext)_localctx).l = loopStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).l.loopStatementRet;
 				}
 				break;
-			case 8:
-				enterOuterAlt(_localctx, 8);
-				{
-				setState(479);
-				((SingleStatementContext)_localctx).ap = append();
-				ListAppendStmt listAppend = new ListAppendStmt(((SingleStatementContext)_localctx).ap.appendRet);
-				     listAppend.setLine(((SingleStatementContext)_localctx).ap.line);
-				     ((SingleStatementContext)_localctx).singleStatementRet =  listAppend;
-				}
-				break;
-			case 9:
-				enterOuterAlt(_localctx, 9);
+			case SIZE:
+			case APPEND:
+			case MINUS:
+			case NOT:
+			case TRUE:
+			case FALSE:
+			case LPAR:
+			case INT_VALUE:
+			case IDENTIFIER:
+				enterOuterAlt(_localctx, 6);
 				{
-				setState(482);
-				((SingleStatementContext)_localctx).s = size();
-				ListSizeStmt listSize = new ListSizeStmt(((SingleStatementContext)_localctx).s.sizeRet);
-				     listSize.setLine(((SingleStatementContext)_localctx).s.line);
-				     ((SingleStatementContext)_localctx).singleStatementRet =  listSize;
+				setState(454);
+				((SingleStatementContext)_localctx).e = expressionStatement();
+				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).e.statementRet;
 				}
 				break;
-			}
+			default:
+				throw new NoViableAltException(this);
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -2583,11 +2500,11 @@ public class CmmParser extends Parser {
 
 	public static class ExpressionContext extends ParserRuleContext {
 		public Expression exprRet;
-		public OrExpressionContext expl;
+		public BinaryExpressionContext expl;
 		public Token op;
 		public ExpressionContext expr;
-		public OrExpressionContext orExpression() {
-			return getRuleContext(OrExpressionContext.class,0);
+		public BinaryExpressionContext binaryExpression() {
+			return getRuleContext(BinaryExpressionContext.class,0);
 		}
 		public TerminalNode ASSIGN() { return getToken(CmmParser.ASSIGN, 0); }
 		public ExpressionContext expression() {
@@ -2614,22 +2531,22 @@ public class CmmParser extends Parser {
 
 	public final ExpressionContext expression() throws RecognitionException {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_expression);
+		enterRule(_localctx, 50, RULE_expression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(487);
-			((ExpressionContext)_localctx).expl = orExpression();
-			((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).expl.orExprRet;
-			setState(493);
+			setState(459);
+			((ExpressionContext)_localctx).expl = binaryExpression(0);
+			((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).expl.binaryExprRet;
+			setState(465);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(489);
+				setState(461);
 				((ExpressionContext)_localctx).op = match(ASSIGN);
-				setState(490);
+				setState(462);
 				((ExpressionContext)_localctx).expr = expression();
 
 				        BinaryOperator opr = BinaryOperator.assign;
@@ -2652,620 +2569,102 @@ public class CmmParser extends Parser {
 		return _localctx;
 	}
 
-	public static class OrExpressionContext extends ParserRuleContext {
-		public Expression orExprRet;
-		public AndExpressionContext expl;
-		public Token op;
-		public AndExpressionContext expr;
-		public List<AndExpressionContext> andExpression() {
-			return getRuleContexts(AndExpressionContext.class);
-		}
-		public AndExpressionContext andExpression(int i) {
-			return getRuleContext(AndExpressionContext.class,i);
-		}
-		public List<TerminalNode> OR() { return getTokens(CmmParser.OR); }
-		public TerminalNode OR(int i) {
-			return getToken(CmmParser.OR, i);
-		}
-		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_orExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterOrExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitOrExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitOrExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final OrExpressionContext orExpression() throws RecognitionException {
-		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_orExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(495);
-			((OrExpressionContext)_localctx).expl = andExpression();
-			((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).expl.andExprRet;
-			setState(503);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==OR) {
-				{
-				{
-				setState(497);
-				((OrExpressionContext)_localctx).op = match(OR);
-				setState(498);
-				((OrExpressionContext)_localctx).expr = andExpression();
-
-				        BinaryOperator opr = BinaryOperator.or;
-				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(_localctx.orExprRet, ((OrExpressionContext)_localctx).expr.andExprRet, opr);
-				        _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(505);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class AndExpressionContext extends ParserRuleContext {
-		public Expression andExprRet;
-		public EqualityExpressionContext expl;
-		public Token op;
-		public EqualityExpressionContext expr;
-		public List<EqualityExpressionContext> equalityExpression() {
-			return getRuleContexts(EqualityExpressionContext.class);
-		}
-		public EqualityExpressionContext equalityExpression(int i) {
-			return getRuleContext(EqualityExpressionContext.class,i);
-		}
-		public List<TerminalNode> AND() { return getTokens(CmmParser.AND); }
-		public TerminalNode AND(int i) {
-			return getToken(CmmParser.AND, i);
-		}
-		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_andExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterAndExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitAndExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitAndExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AndExpressionContext andExpression() throws RecognitionException {
-		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_andExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(506);
-			((AndExpressionContext)_localctx).expl = equalityExpression();
-			((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).expl.equalityExprRet;
-			setState(514);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==AND) {
-				{
-				{
-				setState(508);
-				((AndExpressionContext)_localctx).op = match(AND);
-				setState(509);
-				((AndExpressionContext)_localctx).expr = equalityExpression();
-
-				        BinaryOperator opr = BinaryOperator.and;
-				        ((AndExpressionContext)_localctx).andExprRet =  new BinaryExpression(_localctx.andExprRet, ((AndExpressionContext)_localctx).expr.equalityExprRet, opr);
-				        _localctx.andExprRet.setLine(((AndExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(516);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class EqualityExpressionContext extends ParserRuleContext {
-		public Expression equalityExprRet;
-		public RelationalExpressionContext expl;
-		public Token op;
-		public RelationalExpressionContext expr;
-		public List<RelationalExpressionContext> relationalExpression() {
-			return getRuleContexts(RelationalExpressionContext.class);
-		}
-		public RelationalExpressionContext relationalExpression(int i) {
-			return getRuleContext(RelationalExpressionContext.class,i);
-		}
-		public List<TerminalNode> EQUAL() { return getTokens(CmmParser.EQUAL); }
-		public TerminalNode EQUAL(int i) {
-			return getToken(CmmParser.EQUAL, i);
-		}
-		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_equalityExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterEqualityExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitEqualityExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitEqualityExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
-		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_equalityExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(517);
-			((EqualityExpressionContext)_localctx).expl = relationalExpression();
-			((EqualityExpressionContext)_localctx).equalityExprRet =  ((EqualityExpressionContext)_localctx).expl.relationalExprRet;
-			setState(525);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==EQUAL) {
-				{
-				{
-				setState(519);
-				((EqualityExpressionContext)_localctx).op = match(EQUAL);
-				setState(520);
-				((EqualityExpressionContext)_localctx).expr = relationalExpression();
-
-				        BinaryOperator opr = BinaryOperator.eq;
-				        ((EqualityExpressionContext)_localctx).equalityExprRet =  new BinaryExpression(_localctx.equalityExprRet, ((EqualityExpressionContext)_localctx).expr.relationalExprRet, opr);
-				        _localctx.equalityExprRet.setLine(((EqualityExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(527);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class RelationalExpressionContext extends ParserRuleContext {
-		public Expression relationalExprRet;
-		public BinaryOperator op;
-		public int line;
-		public AdditiveExpressionContext l;
-		public Token op1;
-		public Token op2;
-		public AdditiveExpressionContext r;
-		public List<AdditiveExpressionContext> additiveExpression() {
-			return getRuleContexts(AdditiveExpressionContext.class);
-		}
-		public AdditiveExpressionContext additiveExpression(int i) {
-			return getRuleContext(AdditiveExpressionContext.class,i);
-		}
-		public List<TerminalNode> GREATER_THAN() { return getTokens(CmmParser.GREATER_THAN); }
-		public TerminalNode GREATER_THAN(int i) {
-			return getToken(CmmParser.GREATER_THAN, i);
-		}
-		public List<TerminalNode> LESS_THAN() { return getTokens(CmmParser.LESS_THAN); }
-		public TerminalNode LESS_THAN(int i) {
-			return getToken(CmmParser.LESS_THAN, i);
-		}
-		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_relationalExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterRelationalExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitRelationalExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitRelationalExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
-		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_relationalExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(528);
-			((RelationalExpressionContext)_localctx).l = additiveExpression();
-			((RelationalExpressionContext)_localctx).relationalExprRet =  ((RelationalExpressionContext)_localctx).l.expr;
-			setState(541);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==GREATER_THAN || _la==LESS_THAN) {
-				{
-				{
-				setState(534);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case GREATER_THAN:
-					{
-					setState(530);
-					((RelationalExpressionContext)_localctx).op1 = match(GREATER_THAN);
-					((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
-					    ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case LESS_THAN:
-					{
-					setState(532);
-					((RelationalExpressionContext)_localctx).op2 = match(LESS_THAN);
-					((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
-					     ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(536);
-				((RelationalExpressionContext)_localctx).r = additiveExpression();
-				((RelationalExpressionContext)_localctx).relationalExprRet =  new BinaryExpression(_localctx.relationalExprRet,((RelationalExpressionContext)_localctx).r.expr,_localctx.op);
-				     _localctx.relationalExprRet.setLine(_localctx.line);
-				}
-				}
-				setState(543);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class AdditiveExpressionContext extends ParserRuleContext {
-		public Expression expr;
+	public static class BinaryExpressionContext extends ParserRuleContext {
+		public Expression binaryExprRet;
 		public BinaryOperator op;
+		public UnaryOperator unaryOp;
 		public int line;
-		public MultiplicativeExpressionContext l;
+		public BinaryExpressionContext l;
 		public Token op1;
 		public Token op2;
-		public MultiplicativeExpressionContext r;
-		public List<MultiplicativeExpressionContext> multiplicativeExpression() {
-			return getRuleContexts(MultiplicativeExpressionContext.class);
-		}
-		public MultiplicativeExpressionContext multiplicativeExpression(int i) {
-			return getRuleContext(MultiplicativeExpressionContext.class,i);
-		}
-		public List<TerminalNode> PLUS() { return getTokens(CmmParser.PLUS); }
-		public TerminalNode PLUS(int i) {
-			return getToken(CmmParser.PLUS, i);
-		}
-		public List<TerminalNode> MINUS() { return getTokens(CmmParser.MINUS); }
-		public TerminalNode MINUS(int i) {
-			return getToken(CmmParser.MINUS, i);
-		}
-		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_additiveExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterAdditiveExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitAdditiveExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitAdditiveExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
-		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_additiveExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(544);
-			((AdditiveExpressionContext)_localctx).l = multiplicativeExpression();
-			((AdditiveExpressionContext)_localctx).expr =  ((AdditiveExpressionContext)_localctx).l.expr;
-			setState(557);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==PLUS || _la==MINUS) {
-				{
-				{
-				setState(550);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case PLUS:
-					{
-					setState(546);
-					((AdditiveExpressionContext)_localctx).op1 = match(PLUS);
-					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
-					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case MINUS:
-					{
-					setState(548);
-					((AdditiveExpressionContext)_localctx).op2 = match(MINUS);
-					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
-					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(552);
-				((AdditiveExpressionContext)_localctx).r = multiplicativeExpression();
-				((AdditiveExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((AdditiveExpressionContext)_localctx).r.expr,_localctx.op);
-				     _localctx.expr.setLine(_localctx.line);
-				}
-				}
-				setState(559);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class MultiplicativeExpressionContext extends ParserRuleContext {
-		public Expression expr;
-		public BinaryOperator op;
-		public int line;
-		public PreUnaryExpressionContext l;
-		public Token op1;
-		public Token op2;
-		public PreUnaryExpressionContext r;
-		public List<PreUnaryExpressionContext> preUnaryExpression() {
-			return getRuleContexts(PreUnaryExpressionContext.class);
-		}
-		public PreUnaryExpressionContext preUnaryExpression(int i) {
-			return getRuleContext(PreUnaryExpressionContext.class,i);
-		}
-		public List<TerminalNode> MULT() { return getTokens(CmmParser.MULT); }
-		public TerminalNode MULT(int i) {
-			return getToken(CmmParser.MULT, i);
-		}
-		public List<TerminalNode> DIVIDE() { return getTokens(CmmParser.DIVIDE); }
-		public TerminalNode DIVIDE(int i) {
-			return getToken(CmmParser.DIVIDE, i);
-		}
-		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterMultiplicativeExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitMultiplicativeExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
-		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_multiplicativeExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(560);
-			((MultiplicativeExpressionContext)_localctx).l = preUnaryExpression();
-			((MultiplicativeExpressionContext)_localctx).expr =  ((MultiplicativeExpressionContext)_localctx).l.expr;
-			setState(573);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==MULT || _la==DIVIDE) {
-				{
-				{
-				setState(566);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case MULT:
-					{
-					setState(562);
-					((MultiplicativeExpressionContext)_localctx).op1 = match(MULT);
-					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
-					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case DIVIDE:
-					{
-					setState(564);
-					((MultiplicativeExpressionContext)_localctx).op2 = match(DIVIDE);
-					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
-					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(568);
-				((MultiplicativeExpressionContext)_localctx).r = preUnaryExpression();
-				((MultiplicativeExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((MultiplicativeExpressionContext)_localctx).r.expr,_localctx.op);
-				    _localctx.expr.setLine(_localctx.line);
-				}
-				}
-				setState(575);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class PreUnaryExpressionContext extends ParserRuleContext {
-		public Expression expr;
-		public UnaryOperator op;
-		public int line;
-		public Token op1;
-		public Token op2;
-		public PreUnaryExpressionContext pre;
+		public BinaryExpressionContext pre;
 		public AccessExpressionContext ac;
-		public PreUnaryExpressionContext preUnaryExpression() {
-			return getRuleContext(PreUnaryExpressionContext.class,0);
+		public BinaryExpressionContext r;
+		public List<BinaryExpressionContext> binaryExpression() {
+			return getRuleContexts(BinaryExpressionContext.class);
+		}
+		public BinaryExpressionContext binaryExpression(int i) {
+			return getRuleContext(BinaryExpressionContext.class,i);
 		}
 		public TerminalNode NOT() { return getToken(CmmParser.NOT, 0); }
 		public TerminalNode MINUS() { return getToken(CmmParser.MINUS, 0); }
 		public AccessExpressionContext accessExpression() {
 			return getRuleContext(AccessExpressionContext.class,0);
 		}
-		public PreUnaryExpressionContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode MULT() { return getToken(CmmParser.MULT, 0); }
+		public TerminalNode DIVIDE() { return getToken(CmmParser.DIVIDE, 0); }
+		public TerminalNode PLUS() { return getToken(CmmParser.PLUS, 0); }
+		public TerminalNode GREATER_THAN() { return getToken(CmmParser.GREATER_THAN, 0); }
+		public TerminalNode LESS_THAN() { return getToken(CmmParser.LESS_THAN, 0); }
+		public TerminalNode EQUAL() { return getToken(CmmParser.EQUAL, 0); }
+		public TerminalNode AND() { return getToken(CmmParser.AND, 0); }
+		public TerminalNode OR() { return getToken(CmmParser.OR, 0); }
+		public BinaryExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_preUnaryExpression; }
+		@Override public int getRuleIndex() { return RULE_binaryExpression; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterPreUnaryExpression(this);
+			if ( listener instanceof CmmListener ) ((CmmListener)listener).enterBinaryExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitPreUnaryExpression(this);
+			if ( listener instanceof CmmListener ) ((CmmListener)listener).exitBinaryExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitPreUnaryExpression(this);
+			if ( visitor instanceof CmmVisitor ) return ((CmmVisitor<? extends T>)visitor).visitBinaryExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final PreUnaryExpressionContext preUnaryExpression() throws RecognitionException {
-		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_preUnaryExpression);
+	public final BinaryExpressionContext binaryExpression() throws RecognitionException {
+		return binaryExpression(0);
+	}
+
+	private BinaryExpressionContext binaryExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		BinaryExpressionContext _localctx = new BinaryExpressionContext(_ctx, _parentState);
+		BinaryExpressionContext _prevctx = _localctx;
+		int _startState = 52;
+		enterRecursionRule(_localctx, 52, RULE_binaryExpression, _p);
 		try {
-			setState(588);
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(480);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
 			case NOT:
-				enterOuterAlt(_localctx, 1);
 				{
-				{
-				setState(580);
+				setState(472);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NOT:
 					{
-					setState(576);
-					((PreUnaryExpressionContext)_localctx).op1 = match(NOT);
-					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
-					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op1.getLine();
+					setState(468);
+					((BinaryExpressionContext)_localctx).op1 = match(NOT);
+					((BinaryExpressionContext)_localctx).unaryOp =  UnaryOperator.not;
+					     ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op1.getLine();
 					}
 					break;
 				case MINUS:
 					{
-					setState(578);
-					((PreUnaryExpressionContext)_localctx).op2 = match(MINUS);
-					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
-					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op2.getLine();
+					setState(470);
+					((BinaryExpressionContext)_localctx).op2 = match(MINUS);
+					((BinaryExpressionContext)_localctx).unaryOp =  UnaryOperator.minus;
+					     ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op2.getLine();
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(582);
-				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
-				((PreUnaryExpressionContext)_localctx).expr =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.expr, _localctx.op);
-				     _localctx.expr.setLine(_localctx.line);
-				}
+				setState(474);
+				((BinaryExpressionContext)_localctx).pre = binaryExpression(8);
+				((BinaryExpressionContext)_localctx).binaryExprRet =  new UnaryExpression(((BinaryExpressionContext)_localctx).pre.binaryExprRet, _localctx.unaryOp);
+				     _localctx.binaryExprRet.setLine(_localctx.line);
 				}
 				break;
 			case SIZE:
@@ -3275,16 +2674,191 @@ public class CmmParser extends Parser {
 			case LPAR:
 			case INT_VALUE:
 			case IDENTIFIER:
-				enterOuterAlt(_localctx, 2);
 				{
-				setState(585);
-				((PreUnaryExpressionContext)_localctx).ac = accessExpression();
-				((PreUnaryExpressionContext)_localctx).expr =  ((PreUnaryExpressionContext)_localctx).ac.expr;
+				setState(477);
+				((BinaryExpressionContext)_localctx).ac = accessExpression();
+				((BinaryExpressionContext)_localctx).binaryExprRet =  ((BinaryExpressionContext)_localctx).ac.expr;
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
+			_ctx.stop = _input.LT(-1);
+			setState(529);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(527);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+					case 1:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(482);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(487);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case MULT:
+							{
+							setState(483);
+							((BinaryExpressionContext)_localctx).op1 = match(MULT);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.mult;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op1.getLine();
+							}
+							break;
+						case DIVIDE:
+							{
+							setState(485);
+							((BinaryExpressionContext)_localctx).op2 = match(DIVIDE);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.div;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op2.getLine();
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(489);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(8);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, _localctx.op);
+						               _localctx.binaryExprRet.setLine(_localctx.line);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(492);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(497);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case PLUS:
+							{
+							setState(493);
+							((BinaryExpressionContext)_localctx).op1 = match(PLUS);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.add;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op1.getLine();
+							}
+							break;
+						case MINUS:
+							{
+							setState(495);
+							((BinaryExpressionContext)_localctx).op2 = match(MINUS);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.sub;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op2.getLine();
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(499);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(7);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, _localctx.op);
+						               _localctx.binaryExprRet.setLine(_localctx.line);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(502);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(507);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case GREATER_THAN:
+							{
+							setState(503);
+							((BinaryExpressionContext)_localctx).op1 = match(GREATER_THAN);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.gt;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op1.getLine();
+							}
+							break;
+						case LESS_THAN:
+							{
+							setState(505);
+							((BinaryExpressionContext)_localctx).op2 = match(LESS_THAN);
+							((BinaryExpressionContext)_localctx).op =  BinaryOperator.lt;
+							               ((BinaryExpressionContext)_localctx).line =  ((BinaryExpressionContext)_localctx).op2.getLine();
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(509);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(6);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, _localctx.op);
+						               _localctx.binaryExprRet.setLine(_localctx.line);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(512);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(513);
+						((BinaryExpressionContext)_localctx).op1 = match(EQUAL);
+						setState(514);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(5);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, BinaryOperator.eq);
+						               _localctx.binaryExprRet.setLine(((BinaryExpressionContext)_localctx).op1.getLine());
+						}
+						break;
+					case 5:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(517);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(518);
+						((BinaryExpressionContext)_localctx).op1 = match(AND);
+						setState(519);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(4);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, BinaryOperator.and);
+						               _localctx.binaryExprRet.setLine(((BinaryExpressionContext)_localctx).op1.getLine());
+						}
+						break;
+					case 6:
+						{
+						_localctx = new BinaryExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_binaryExpression);
+						setState(522);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(523);
+						((BinaryExpressionContext)_localctx).op1 = match(OR);
+						setState(524);
+						((BinaryExpressionContext)_localctx).r = binaryExpression(3);
+						((BinaryExpressionContext)_localctx).binaryExprRet =  new BinaryExpression(((BinaryExpressionContext)_localctx).l.binaryExprRet, ((BinaryExpressionContext)_localctx).r.binaryExprRet, BinaryOperator.or);
+						               _localctx.binaryExprRet.setLine(((BinaryExpressionContext)_localctx).op1.getLine());
+						}
+						break;
+					}
+					} 
+				}
+				setState(531);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+			}
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -3292,7 +2866,7 @@ public class CmmParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
@@ -3307,6 +2881,20 @@ public class CmmParser extends Parser {
 		public OtherExpressionContext otherExpression() {
 			return getRuleContext(OtherExpressionContext.class,0);
 		}
+		public List<TerminalNode> RBRACK() { return getTokens(CmmParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(CmmParser.RBRACK, i);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(CmmParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(CmmParser.LBRACK, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
 		public List<TerminalNode> RPAR() { return getTokens(CmmParser.RPAR); }
 		public TerminalNode RPAR(int i) {
 			return getToken(CmmParser.RPAR, i);
@@ -3315,10 +2903,6 @@ public class CmmParser extends Parser {
 		public TerminalNode DOT(int i) {
 			return getToken(CmmParser.DOT, i);
 		}
-		public List<TerminalNode> RBRACK() { return getTokens(CmmParser.RBRACK); }
-		public TerminalNode RBRACK(int i) {
-			return getToken(CmmParser.RBRACK, i);
-		}
 		public List<TerminalNode> LPAR() { return getTokens(CmmParser.LPAR); }
 		public TerminalNode LPAR(int i) {
 			return getToken(CmmParser.LPAR, i);
@@ -3335,16 +2919,6 @@ public class CmmParser extends Parser {
 		public IdentifierContext identifier(int i) {
 			return getRuleContext(IdentifierContext.class,i);
 		}
-		public List<TerminalNode> LBRACK() { return getTokens(CmmParser.LBRACK); }
-		public TerminalNode LBRACK(int i) {
-			return getToken(CmmParser.LBRACK, i);
-		}
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
-		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
-		}
 		public AccessExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3366,34 +2940,33 @@ public class CmmParser extends Parser {
 
 	public final AccessExpressionContext accessExpression() throws RecognitionException {
 		AccessExpressionContext _localctx = new AccessExpressionContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_accessExpression);
-		int _la;
+		enterRule(_localctx, 54, RULE_accessExpression);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(590);
+			setState(532);
 			((AccessExpressionContext)_localctx).oth = otherExpression();
 			((AccessExpressionContext)_localctx).expr =  ((AccessExpressionContext)_localctx).oth.expr;
-			setState(603);
+			setState(545);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(601);
+					setState(543);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case LPAR:
 						{
 						{
-						setState(592);
+						setState(534);
 						((AccessExpressionContext)_localctx).l = match(LPAR);
-						setState(593);
+						setState(535);
 						((AccessExpressionContext)_localctx).f = functionArguments();
 						((AccessExpressionContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((AccessExpressionContext)_localctx).f.funcArgRet);
 						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
-						setState(595);
+						setState(537);
 						match(RPAR);
 						}
 						}
@@ -3401,9 +2974,9 @@ public class CmmParser extends Parser {
 					case DOT:
 						{
 						{
-						setState(597);
+						setState(539);
 						match(DOT);
-						setState(598);
+						setState(540);
 						((AccessExpressionContext)_localctx).i = identifier();
 						((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
 						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
@@ -3415,51 +2988,69 @@ public class CmmParser extends Parser {
 					}
 					} 
 				}
-				setState(605);
+				setState(547);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 			}
-			setState(617);
+			setState(566);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==LBRACK || _la==DOT) {
+			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			case 1:
 				{
-				setState(615);
+				setState(548);
+				((AccessExpressionContext)_localctx).l = match(LBRACK);
+				setState(549);
+				((AccessExpressionContext)_localctx).ex = expression();
+				((AccessExpressionContext)_localctx).expr =  new ListAccessByIndex(_localctx.expr, ((AccessExpressionContext)_localctx).ex.exprRet);
+				     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
+				setState(551);
+				match(RBRACK);
+				setState(563);
 				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case LBRACK:
-					{
-					{
-					setState(606);
-					((AccessExpressionContext)_localctx).l = match(LBRACK);
-					setState(607);
-					((AccessExpressionContext)_localctx).ex = expression();
-					((AccessExpressionContext)_localctx).expr =  new ListAccessByIndex(_localctx.expr, ((AccessExpressionContext)_localctx).ex.exprRet);
-					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
-					setState(609);
-					match(RBRACK);
-					}
-					}
-					break;
-				case DOT:
-					{
-					{
-					setState(611);
-					match(DOT);
-					setState(612);
-					((AccessExpressionContext)_localctx).i = identifier();
-					((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
-					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
-					}
+				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						setState(561);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case LBRACK:
+							{
+							{
+							setState(552);
+							((AccessExpressionContext)_localctx).l = match(LBRACK);
+							setState(553);
+							((AccessExpressionContext)_localctx).ex = expression();
+							((AccessExpressionContext)_localctx).expr =  new ListAccessByIndex(_localctx.expr, ((AccessExpressionContext)_localctx).ex.exprRet);
+							     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
+							setState(555);
+							match(RBRACK);
+							}
+							}
+							break;
+						case DOT:
+							{
+							{
+							setState(557);
+							match(DOT);
+							setState(558);
+							((AccessExpressionContext)_localctx).i = identifier();
+							((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
+							     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
+							}
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						} 
 					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+					setState(565);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 				}
 				}
-				setState(619);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
+				break;
 			}
 			}
 		}
@@ -3520,9 +3111,9 @@ public class CmmParser extends Parser {
 
 	public final OtherExpressionContext otherExpression() throws RecognitionException {
 		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_otherExpression);
+		enterRule(_localctx, 56, RULE_otherExpression);
 		try {
-			setState(637);
+			setState(585);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
@@ -3530,7 +3121,7 @@ public class CmmParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(620);
+				setState(568);
 				((OtherExpressionContext)_localctx).v = value();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).v.valueRet;
 				}
@@ -3538,7 +3129,7 @@ public class CmmParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(623);
+				setState(571);
 				((OtherExpressionContext)_localctx).id = identifier();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).id.identifierRet;
 				}
@@ -3546,13 +3137,13 @@ public class CmmParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(626);
+				setState(574);
 				((OtherExpressionContext)_localctx).l = match(LPAR);
 				{
-				setState(627);
+				setState(575);
 				((OtherExpressionContext)_localctx).f = functionArguments();
 				}
-				setState(628);
+				setState(576);
 				match(RPAR);
 				ExprInPar ex = new ExprInPar(((OtherExpressionContext)_localctx).f.funcArgRet);
 				     ex.setLine(((OtherExpressionContext)_localctx).l.getLine());
@@ -3562,7 +3153,7 @@ public class CmmParser extends Parser {
 			case SIZE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(631);
+				setState(579);
 				((OtherExpressionContext)_localctx).s = size();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).s.sizeRet;
 				}
@@ -3570,7 +3161,7 @@ public class CmmParser extends Parser {
 			case APPEND:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(634);
+				setState(582);
 				((OtherExpressionContext)_localctx).ap = append();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).ap.appendRet;
 				}
@@ -3592,7 +3183,6 @@ public class CmmParser extends Parser {
 
 	public static class SizeContext extends ParserRuleContext {
 		public ListSize sizeRet;
-		public int line;
 		public Token s;
 		public ExpressionContext ex;
 		public TerminalNode LPAR() { return getToken(CmmParser.LPAR, 0); }
@@ -3622,20 +3212,19 @@ public class CmmParser extends Parser {
 
 	public final SizeContext size() throws RecognitionException {
 		SizeContext _localctx = new SizeContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_size);
+		enterRule(_localctx, 58, RULE_size);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(639);
+			setState(587);
 			((SizeContext)_localctx).s = match(SIZE);
-			setState(640);
+			setState(588);
 			match(LPAR);
-			setState(641);
+			setState(589);
 			((SizeContext)_localctx).ex = expression();
 			((SizeContext)_localctx).sizeRet =  new ListSize(((SizeContext)_localctx).ex.exprRet);
 			     _localctx.sizeRet.setLine(((SizeContext)_localctx).s.getLine());
-			     ((SizeContext)_localctx).line =  ((SizeContext)_localctx).s.getLine();
-			setState(643);
+			setState(591);
 			match(RPAR);
 			}
 		}
@@ -3652,7 +3241,6 @@ public class CmmParser extends Parser {
 
 	public static class AppendContext extends ParserRuleContext {
 		public ListAppend appendRet;
-		public int line;
 		public Token ap;
 		public ExpressionContext ex1;
 		public ExpressionContext ex2;
@@ -3687,25 +3275,24 @@ public class CmmParser extends Parser {
 
 	public final AppendContext append() throws RecognitionException {
 		AppendContext _localctx = new AppendContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_append);
+		enterRule(_localctx, 60, RULE_append);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(645);
+			setState(593);
 			((AppendContext)_localctx).ap = match(APPEND);
-			setState(646);
+			setState(594);
 			match(LPAR);
-			setState(647);
+			setState(595);
 			((AppendContext)_localctx).ex1 = expression();
-			setState(648);
+			setState(596);
 			match(COMMA);
-			setState(649);
+			setState(597);
 			((AppendContext)_localctx).ex2 = expression();
-			setState(650);
+			setState(598);
 			match(RPAR);
 			((AppendContext)_localctx).appendRet =  new ListAppend(((AppendContext)_localctx).ex1.exprRet, ((AppendContext)_localctx).ex2.exprRet);
 			     _localctx.appendRet.setLine(((AppendContext)_localctx).ap.getLine());
-			     ((AppendContext)_localctx).line =  ((AppendContext)_localctx).ap.getLine();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3748,16 +3335,16 @@ public class CmmParser extends Parser {
 
 	public final ValueContext value() throws RecognitionException {
 		ValueContext _localctx = new ValueContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_value);
+		enterRule(_localctx, 62, RULE_value);
 		try {
-			setState(658);
+			setState(606);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(653);
+				setState(601);
 				((ValueContext)_localctx).b = boolValue();
 				((ValueContext)_localctx).valueRet =  ((ValueContext)_localctx).b.boolValueRet;
 				}
@@ -3765,7 +3352,7 @@ public class CmmParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(656);
+				setState(604);
 				((ValueContext)_localctx).iv = match(INT_VALUE);
 
 				    ((ValueContext)_localctx).valueRet =  new IntValue((((ValueContext)_localctx).iv!=null?Integer.valueOf(((ValueContext)_localctx).iv.getText()):0));
@@ -3814,15 +3401,15 @@ public class CmmParser extends Parser {
 
 	public final BoolValueContext boolValue() throws RecognitionException {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_boolValue);
+		enterRule(_localctx, 64, RULE_boolValue);
 		try {
-			setState(664);
+			setState(612);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(660);
+				setState(608);
 				((BoolValueContext)_localctx).t = match(TRUE);
 				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(true);
 				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).t.getLine());
@@ -3831,7 +3418,7 @@ public class CmmParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(662);
+				setState(610);
 				((BoolValueContext)_localctx).f = match(FALSE);
 				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(false);
 				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).f.getLine());
@@ -3878,11 +3465,11 @@ public class CmmParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_identifier);
+		enterRule(_localctx, 66, RULE_identifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(666);
+			setState(614);
 			((IdentifierContext)_localctx).id = match(IDENTIFIER);
 
 			    ((IdentifierContext)_localctx).identifierRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
@@ -3941,15 +3528,15 @@ public class CmmParser extends Parser {
 
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_type);
+		enterRule(_localctx, 68, RULE_type);
 		try {
-			setState(685);
+			setState(633);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(669);
+				setState(617);
 				match(INT);
 				((TypeContext)_localctx).typeRet =  new IntType();
 				}
@@ -3957,7 +3544,7 @@ public class CmmParser extends Parser {
 			case BOOL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(671);
+				setState(619);
 				match(BOOL);
 				((TypeContext)_localctx).typeRet =  new BoolType();
 				}
@@ -3965,11 +3552,11 @@ public class CmmParser extends Parser {
 			case LIST:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(673);
+				setState(621);
 				match(LIST);
-				setState(674);
+				setState(622);
 				match(SHARP);
-				setState(675);
+				setState(623);
 				((TypeContext)_localctx).t = type();
 				((TypeContext)_localctx).typeRet =  new ListType(((TypeContext)_localctx).t.typeRet);
 				}
@@ -3977,9 +3564,9 @@ public class CmmParser extends Parser {
 			case STRUCT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(678);
+				setState(626);
 				match(STRUCT);
-				setState(679);
+				setState(627);
 				((TypeContext)_localctx).id = identifier();
 				((TypeContext)_localctx).typeRet =  new StructType(((TypeContext)_localctx).id.identifierRet);
 				}
@@ -3987,7 +3574,7 @@ public class CmmParser extends Parser {
 			case FPTR:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(682);
+				setState(630);
 				((TypeContext)_localctx).f = fptrType();
 				((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet;
 				}
@@ -4051,22 +3638,22 @@ public class CmmParser extends Parser {
 
 	public final FptrTypeContext fptrType() throws RecognitionException {
 		FptrTypeContext _localctx = new FptrTypeContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_fptrType);
+		enterRule(_localctx, 70, RULE_fptrType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ArrayList<Type> args = new ArrayList<>(); 
-			setState(688);
+			setState(636);
 			match(FPTR);
-			setState(689);
+			setState(637);
 			match(LESS_THAN);
-			setState(702);
+			setState(650);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(690);
+				setState(638);
 				match(VOID);
 				}
 				break;
@@ -4077,23 +3664,23 @@ public class CmmParser extends Parser {
 			case FPTR:
 				{
 				{
-				setState(691);
+				setState(639);
 				((FptrTypeContext)_localctx).t1 = type();
 				 args.add(((FptrTypeContext)_localctx).t1.typeRet); 
-				setState(699);
+				setState(647);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(693);
+					setState(641);
 					match(COMMA);
-					setState(694);
+					setState(642);
 					((FptrTypeContext)_localctx).t2 = type();
 					 args.add(((FptrTypeContext)_localctx).t2.typeRet); 
 					}
 					}
-					setState(701);
+					setState(649);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -4103,9 +3690,9 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(704);
+			setState(652);
 			match(ARROW);
-			setState(710);
+			setState(658);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -4114,14 +3701,14 @@ public class CmmParser extends Parser {
 			case STRUCT:
 			case FPTR:
 				{
-				setState(705);
+				setState(653);
 				((FptrTypeContext)_localctx).t3 = type();
 				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, ((FptrTypeContext)_localctx).t3.typeRet);
 				}
 				break;
 			case VOID:
 				{
-				setState(708);
+				setState(656);
 				match(VOID);
 				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, new VoidType());
 				}
@@ -4129,7 +3716,7 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(712);
+			setState(660);
 			match(GREATER_THAN);
 			}
 		}
@@ -4144,268 +3731,279 @@ public class CmmParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 26:
+			return binaryExpression_sempred((BinaryExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean binaryExpression_sempred(BinaryExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 7);
+		case 1:
+			return precpred(_ctx, 6);
+		case 2:
+			return precpred(_ctx, 5);
+		case 3:
+			return precpred(_ctx, 4);
+		case 4:
+			return precpred(_ctx, 3);
+		case 5:
+			return precpred(_ctx, 2);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\60\u02cd\4\2\t\2"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\60\u0299\4\2\t\2"+
 		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\3\2\7\2Z\n\2\f\2\16\2]\13\2\3\2\3\2\3\2\7\2b\n\2\f\2\16\2e\13\2\3"+
-		"\2\3\2\3\3\3\3\3\3\3\3\7\3m\n\3\f\3\16\3p\13\3\3\3\3\3\3\3\7\3u\n\3\f"+
-		"\3\16\3x\13\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5"+
-		"\3\5\3\5\3\5\3\5\6\5\u008c\n\5\r\5\16\5\u008d\3\5\3\5\3\5\6\5\u0093\n"+
-		"\5\r\5\16\5\u0094\3\5\3\5\3\5\5\5\u009a\n\5\5\5\u009c\n\5\3\5\6\5\u009f"+
-		"\n\5\r\5\16\5\u00a0\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\6\6\u00ab\n\6\r\6"+
-		"\16\6\u00ac\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u00bb"+
-		"\n\7\3\b\3\b\6\b\u00bf\n\b\r\b\16\b\u00c0\3\b\3\b\3\b\3\b\7\b\u00c7\n"+
-		"\b\f\b\16\b\u00ca\13\b\3\b\3\b\3\b\5\b\u00cf\n\b\6\b\u00d1\n\b\r\b\16"+
-		"\b\u00d2\3\t\3\t\3\t\3\t\6\t\u00d9\n\t\r\t\16\t\u00da\3\n\3\n\3\n\3\n"+
-		"\6\n\u00e1\n\n\r\n\16\n\u00e2\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00eb"+
-		"\n\13\3\13\3\13\3\13\3\13\3\13\6\13\u00f2\n\13\r\13\16\13\u00f3\3\f\3"+
-		"\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\7\f\u0100\n\f\f\f\16\f\u0103\13\f\5"+
-		"\f\u0105\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0110\n\r\f\r\16"+
-		"\r\u0113\13\r\5\r\u0115\n\r\3\16\3\16\3\16\3\16\6\16\u011b\n\16\r\16\16"+
-		"\16\u011c\3\16\3\16\3\16\5\16\u0122\n\16\5\16\u0124\n\16\3\17\3\17\3\17"+
-		"\3\17\6\17\u012a\n\17\r\17\16\17\u012b\3\17\3\17\3\17\5\17\u0131\n\17"+
-		"\3\20\3\20\3\20\3\20\6\20\u0137\n\20\r\20\16\20\u0138\3\20\3\20\3\20\3"+
-		"\20\7\20\u013f\n\20\f\20\16\20\u0142\13\20\3\20\3\20\3\20\5\20\u0147\n"+
-		"\20\6\20\u0149\n\20\r\20\16\20\u014a\3\20\6\20\u014e\n\20\r\20\16\20\u014f"+
-		"\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u015c\n\21\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u0166\n\21\3\21\3\21\7\21\u016a"+
-		"\n\21\f\21\16\21\u016d\13\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3"+
-		"\22\3\22\3\22\7\22\u017a\n\22\f\22\16\22\u017d\13\22\3\22\3\22\3\22\3"+
-		"\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u018c\n\23\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u0199\n\24\3\25"+
-		"\7\25\u019c\n\25\f\25\16\25\u019f\13\25\3\25\3\25\3\25\3\25\3\26\3\26"+
-		"\3\26\3\26\3\26\3\26\5\26\u01ab\n\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\30\3\30\3\30\3\30\3\30\7\30\u01b9\n\30\f\30\16\30\u01bc\13\30\3\30"+
-		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32"+
-		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33"+
-		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33"+
-		"\u01e8\n\33\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u01f0\n\34\3\35\3\35\3"+
-		"\35\3\35\3\35\3\35\7\35\u01f8\n\35\f\35\16\35\u01fb\13\35\3\36\3\36\3"+
-		"\36\3\36\3\36\3\36\7\36\u0203\n\36\f\36\16\36\u0206\13\36\3\37\3\37\3"+
-		"\37\3\37\3\37\3\37\7\37\u020e\n\37\f\37\16\37\u0211\13\37\3 \3 \3 \3 "+
-		"\3 \3 \5 \u0219\n \3 \3 \3 \7 \u021e\n \f \16 \u0221\13 \3!\3!\3!\3!\3"+
-		"!\3!\5!\u0229\n!\3!\3!\3!\7!\u022e\n!\f!\16!\u0231\13!\3\"\3\"\3\"\3\""+
-		"\3\"\3\"\5\"\u0239\n\"\3\"\3\"\3\"\7\"\u023e\n\"\f\"\16\"\u0241\13\"\3"+
-		"#\3#\3#\3#\5#\u0247\n#\3#\3#\3#\3#\3#\3#\5#\u024f\n#\3$\3$\3$\3$\3$\3"+
-		"$\3$\3$\3$\3$\3$\7$\u025c\n$\f$\16$\u025f\13$\3$\3$\3$\3$\3$\3$\3$\3$"+
-		"\3$\7$\u026a\n$\f$\16$\u026d\13$\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3"+
-		"%\3%\3%\3%\3%\5%\u0280\n%\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'\3"+
-		"\'\3\'\3(\3(\3(\3(\3(\5(\u0295\n(\3)\3)\3)\3)\5)\u029b\n)\3*\3*\3*\3+"+
-		"\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\5+\u02b0\n+\3,\3,\3,\3,"+
-		"\3,\3,\3,\3,\3,\3,\7,\u02bc\n,\f,\16,\u02bf\13,\5,\u02c1\n,\3,\3,\3,\3"+
-		",\3,\3,\5,\u02c9\n,\3,\3,\3,\2\2-\2\4\6\b\n\f\16\20\22\24\26\30\32\34"+
-		"\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\2\2\u02f1\2[\3\2\2\2\4h\3\2"+
-		"\2\2\6|\3\2\2\2\b\u0083\3\2\2\2\n\u00a2\3\2\2\2\f\u00ba\3\2\2\2\16\u00bc"+
-		"\3\2\2\2\20\u00d4\3\2\2\2\22\u00dc\3\2\2\2\24\u00e4\3\2\2\2\26\u00f5\3"+
-		"\2\2\2\30\u0108\3\2\2\2\32\u0123\3\2\2\2\34\u0130\3\2\2\2\36\u0132\3\2"+
-		"\2\2 \u0153\3\2\2\2\"\u016e\3\2\2\2$\u0185\3\2\2\2&\u018d\3\2\2\2(\u019d"+
-		"\3\2\2\2*\u01aa\3\2\2\2,\u01ac\3\2\2\2.\u01b3\3\2\2\2\60\u01c1\3\2\2\2"+
-		"\62\u01c7\3\2\2\2\64\u01e7\3\2\2\2\66\u01e9\3\2\2\28\u01f1\3\2\2\2:\u01fc"+
-		"\3\2\2\2<\u0207\3\2\2\2>\u0212\3\2\2\2@\u0222\3\2\2\2B\u0232\3\2\2\2D"+
-		"\u024e\3\2\2\2F\u0250\3\2\2\2H\u027f\3\2\2\2J\u0281\3\2\2\2L\u0287\3\2"+
-		"\2\2N\u0294\3\2\2\2P\u029a\3\2\2\2R\u029c\3\2\2\2T\u02af\3\2\2\2V\u02b1"+
-		"\3\2\2\2XZ\7,\2\2YX\3\2\2\2Z]\3\2\2\2[Y\3\2\2\2[\\\3\2\2\2\\^\3\2\2\2"+
-		"][\3\2\2\2^_\5\4\3\2_c\b\2\1\2`b\7,\2\2a`\3\2\2\2be\3\2\2\2ca\3\2\2\2"+
-		"cd\3\2\2\2df\3\2\2\2ec\3\2\2\2fg\7\2\2\3g\3\3\2\2\2hn\b\3\1\2ij\5\b\5"+
-		"\2jk\b\3\1\2km\3\2\2\2li\3\2\2\2mp\3\2\2\2nl\3\2\2\2no\3\2\2\2ov\3\2\2"+
-		"\2pn\3\2\2\2qr\5\24\13\2rs\b\3\1\2su\3\2\2\2tq\3\2\2\2ux\3\2\2\2vt\3\2"+
-		"\2\2vw\3\2\2\2wy\3\2\2\2xv\3\2\2\2yz\5\6\4\2z{\b\3\1\2{\5\3\2\2\2|}\b"+
-		"\4\1\2}~\7\3\2\2~\177\7%\2\2\177\u0080\7&\2\2\u0080\u0081\5\32\16\2\u0081"+
-		"\u0082\b\4\1\2\u0082\7\3\2\2\2\u0083\u0084\b\5\1\2\u0084\u0085\7\35\2"+
-		"\2\u0085\u0086\5R*\2\u0086\u009b\b\5\1\2\u0087\u0088\7\30\2\2\u0088\u0089"+
-		"\5\16\b\2\u0089\u008b\b\5\1\2\u008a\u008c\7,\2\2\u008b\u008a\3\2\2\2\u008c"+
-		"\u008d\3\2\2\2\u008d\u008b\3\2\2\2\u008d\u008e\3\2\2\2\u008e\u008f\3\2"+
-		"\2\2\u008f\u0090\7\31\2\2\u0090\u009c\3\2\2\2\u0091\u0093\7,\2\2\u0092"+
-		"\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094\u0092\3\2\2\2\u0094\u0095\3\2"+
-		"\2\2\u0095\u0096\3\2\2\2\u0096\u0097\5\f\7\2\u0097\u0099\b\5\1\2\u0098"+
-		"\u009a\7+\2\2\u0099\u0098\3\2\2\2\u0099\u009a\3\2\2\2\u009a\u009c\3\2"+
-		"\2\2\u009b\u0087\3\2\2\2\u009b\u0092\3\2\2\2\u009c\u009e\3\2\2\2\u009d"+
-		"\u009f\7,\2\2\u009e\u009d\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u009e\3\2"+
-		"\2\2\u00a0\u00a1\3\2\2\2\u00a1\t\3\2\2\2\u00a2\u00a3\b\6\1\2\u00a3\u00a4"+
-		"\5T+\2\u00a4\u00a5\5R*\2\u00a5\u00a6\b\6\1\2\u00a6\u00a7\5\26\f\2\u00a7"+
-		"\u00a8\b\6\1\2\u00a8\u00aa\7\30\2\2\u00a9\u00ab\7,\2\2\u00aa\u00a9\3\2"+
-		"\2\2\u00ab\u00ac\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ac\u00ad\3\2\2\2\u00ad"+
-		"\u00ae\3\2\2\2\u00ae\u00af\5\22\n\2\u00af\u00b0\b\6\1\2\u00b0\u00b1\5"+
-		"\20\t\2\u00b1\u00b2\b\6\1\2\u00b2\u00b3\7\31\2\2\u00b3\13\3\2\2\2\u00b4"+
-		"\u00b5\5 \21\2\u00b5\u00b6\b\7\1\2\u00b6\u00bb\3\2\2\2\u00b7\u00b8\5\n"+
-		"\6\2\u00b8\u00b9\b\7\1\2\u00b9\u00bb\3\2\2\2\u00ba\u00b4\3\2\2\2\u00ba"+
-		"\u00b7\3\2\2\2\u00bb\r\3\2\2\2\u00bc\u00d0\b\b\1\2\u00bd\u00bf\7,\2\2"+
-		"\u00be\u00bd\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00be\3\2\2\2\u00c0\u00c1"+
-		"\3\2\2\2\u00c1\u00c8\3\2\2\2\u00c2\u00c3\5\f\7\2\u00c3\u00c4\b\b\1\2\u00c4"+
-		"\u00c5\7+\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c2\3\2\2\2\u00c7\u00ca\3\2"+
-		"\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9\u00cb\3\2\2\2\u00ca"+
-		"\u00c8\3\2\2\2\u00cb\u00cc\5\f\7\2\u00cc\u00ce\b\b\1\2\u00cd\u00cf\7+"+
-		"\2\2\u00ce\u00cd\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d1\3\2\2\2\u00d0"+
-		"\u00be\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2"+
-		"\2\2\u00d3\17\3\2\2\2\u00d4\u00d5\7\37\2\2\u00d5\u00d6\5\32\16\2\u00d6"+
-		"\u00d8\b\t\1\2\u00d7\u00d9\7,\2\2\u00d8\u00d7\3\2\2\2\u00d9\u00da\3\2"+
-		"\2\2\u00da\u00d8\3\2\2\2\u00da\u00db\3\2\2\2\u00db\21\3\2\2\2\u00dc\u00dd"+
-		"\7 \2\2\u00dd\u00de\5\32\16\2\u00de\u00e0\b\n\1\2\u00df\u00e1\7,\2\2\u00e0"+
-		"\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2"+
-		"\2\2\u00e3\23\3\2\2\2\u00e4\u00ea\b\13\1\2\u00e5\u00e6\5T+\2\u00e6\u00e7"+
-		"\b\13\1\2\u00e7\u00eb\3\2\2\2\u00e8\u00e9\7\5\2\2\u00e9\u00eb\b\13\1\2"+
-		"\u00ea\u00e5\3\2\2\2\u00ea\u00e8\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ed"+
-		"\5R*\2\u00ed\u00ee\5\26\f\2\u00ee\u00ef\5\32\16\2\u00ef\u00f1\b\13\1\2"+
-		"\u00f0\u00f2\7,\2\2\u00f1\u00f0\3\2\2\2\u00f2\u00f3\3\2\2\2\u00f3\u00f1"+
-		"\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\25\3\2\2\2\u00f5\u00f6\b\f\1\2\u00f6"+
-		"\u0104\7%\2\2\u00f7\u00f8\5T+\2\u00f8\u00f9\5R*\2\u00f9\u0101\b\f\1\2"+
-		"\u00fa\u00fb\7)\2\2\u00fb\u00fc\5T+\2\u00fc\u00fd\5R*\2\u00fd\u00fe\b"+
-		"\f\1\2\u00fe\u0100\3\2\2\2\u00ff\u00fa\3\2\2\2\u0100\u0103\3\2\2\2\u0101"+
-		"\u00ff\3\2\2\2\u0101\u0102\3\2\2\2\u0102\u0105\3\2\2\2\u0103\u0101\3\2"+
-		"\2\2\u0104\u00f7\3\2\2\2\u0104\u0105\3\2\2\2\u0105\u0106\3\2\2\2\u0106"+
-		"\u0107\7&\2\2\u0107\27\3\2\2\2\u0108\u0114\b\r\1\2\u0109\u010a\5\66\34"+
-		"\2\u010a\u0111\b\r\1\2\u010b\u010c\7)\2\2\u010c\u010d\5\66\34\2\u010d"+
-		"\u010e\b\r\1\2\u010e\u0110\3\2\2\2\u010f\u010b\3\2\2\2\u0110\u0113\3\2"+
-		"\2\2\u0111\u010f\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0115\3\2\2\2\u0113"+
-		"\u0111\3\2\2\2\u0114\u0109\3\2\2\2\u0114\u0115\3\2\2\2\u0115\31\3\2\2"+
-		"\2\u0116\u0117\5\36\20\2\u0117\u0118\b\16\1\2\u0118\u0124\3\2\2\2\u0119"+
-		"\u011b\7,\2\2\u011a\u0119\3\2\2\2\u011b\u011c\3\2\2\2\u011c\u011a\3\2"+
-		"\2\2\u011c\u011d\3\2\2\2\u011d\u011e\3\2\2\2\u011e\u011f\5\64\33\2\u011f"+
-		"\u0121\b\16\1\2\u0120\u0122\7+\2\2\u0121\u0120\3\2\2\2\u0121\u0122\3\2"+
-		"\2\2\u0122\u0124\3\2\2\2\u0123\u0116\3\2\2\2\u0123\u011a\3\2\2\2\u0124"+
-		"\33\3\2\2\2\u0125\u0126\5\36\20\2\u0126\u0127\b\17\1\2\u0127\u0131\3\2"+
-		"\2\2\u0128\u012a\7,\2\2\u0129\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b"+
-		"\u0129\3\2\2\2\u012b\u012c\3\2\2\2\u012c\u012d\3\2\2\2\u012d\u012e\5\64"+
-		"\33\2\u012e\u012f\b\17\1\2\u012f\u0131\3\2\2\2\u0130\u0125\3\2\2\2\u0130"+
-		"\u0129\3\2\2\2\u0131\35\3\2\2\2\u0132\u0133\b\20\1\2\u0133\u0134\7\30"+
-		"\2\2\u0134\u0148\b\20\1\2\u0135\u0137\7,\2\2\u0136\u0135\3\2\2\2\u0137"+
-		"\u0138\3\2\2\2\u0138\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u0140\3\2"+
-		"\2\2\u013a\u013b\5\64\33\2\u013b\u013c\b\20\1\2\u013c\u013d\7+\2\2\u013d"+
-		"\u013f\3\2\2\2\u013e\u013a\3\2\2\2\u013f\u0142\3\2\2\2\u0140\u013e\3\2"+
-		"\2\2\u0140\u0141\3\2\2\2\u0141\u0143\3\2\2\2\u0142\u0140\3\2\2\2\u0143"+
-		"\u0144\5\64\33\2\u0144\u0146\b\20\1\2\u0145\u0147\7+\2\2\u0146\u0145\3"+
-		"\2\2\2\u0146\u0147\3\2\2\2\u0147\u0149\3\2\2\2\u0148\u0136\3\2\2\2\u0149"+
-		"\u014a\3\2\2\2\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u014d\3\2"+
-		"\2\2\u014c\u014e\7,\2\2\u014d\u014c\3\2\2\2\u014e\u014f\3\2\2\2\u014f"+
-		"\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u0152\7\31"+
-		"\2\2\u0152\37\3\2\2\2\u0153\u0154\b\21\1\2\u0154\u0155\5T+\2\u0155\u0156"+
-		"\5R*\2\u0156\u015b\b\21\1\2\u0157\u0158\7#\2\2\u0158\u0159\58\35\2\u0159"+
-		"\u015a\b\21\1\2\u015a\u015c\3\2\2\2\u015b\u0157\3\2\2\2\u015b\u015c\3"+
-		"\2\2\2\u015c\u015d\3\2\2\2\u015d\u016b\b\21\1\2\u015e\u015f\7)\2\2\u015f"+
-		"\u0160\5R*\2\u0160\u0165\b\21\1\2\u0161\u0162\7#\2\2\u0162\u0163\58\35"+
-		"\2\u0163\u0164\b\21\1\2\u0164\u0166\3\2\2\2\u0165\u0161\3\2\2\2\u0165"+
-		"\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0168\b\21\1\2\u0168\u016a\3"+
-		"\2\2\2\u0169\u015e\3\2\2\2\u016a\u016d\3\2\2\2\u016b\u0169\3\2\2\2\u016b"+
-		"\u016c\3\2\2\2\u016c!\3\2\2\2\u016d\u016b\3\2\2\2\u016e\u016f\5H%\2\u016f"+
-		"\u017b\b\22\1\2\u0170\u0171\7%\2\2\u0171\u0172\5\30\r\2\u0172\u0173\7"+
-		"&\2\2\u0173\u0174\b\22\1\2\u0174\u017a\3\2\2\2\u0175\u0176\7*\2\2\u0176"+
-		"\u0177\5R*\2\u0177\u0178\b\22\1\2\u0178\u017a\3\2\2\2\u0179\u0170\3\2"+
-		"\2\2\u0179\u0175\3\2\2\2\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017b"+
-		"\u017c\3\2\2\2\u017c\u017e\3\2\2\2\u017d\u017b\3\2\2\2\u017e\u017f\7%"+
-		"\2\2\u017f\u0180\5\30\r\2\u0180\u0181\7&\2\2\u0181\u0182\b\22\1\2\u0182"+
-		"\u0183\3\2\2\2\u0183\u0184\b\22\1\2\u0184#\3\2\2\2\u0185\u0186\b\23\1"+
-		"\2\u0186\u0187\7\4\2\2\u0187\u018b\b\23\1\2\u0188\u0189\5\66\34\2\u0189"+
-		"\u018a\b\23\1\2\u018a\u018c\3\2\2\2\u018b\u0188\3\2\2\2\u018b\u018c\3"+
-		"\2\2\2\u018c%\3\2\2\2\u018d\u018e\7\t\2\2\u018e\u018f\5\66\34\2\u018f"+
-		"\u0198\b\24\1\2\u0190\u0191\5\34\17\2\u0191\u0192\b\24\1\2\u0192\u0199"+
-		"\3\2\2\2\u0193\u0194\5\32\16\2\u0194\u0195\b\24\1\2\u0195\u0196\5(\25"+
-		"\2\u0196\u0197\b\24\1\2\u0197\u0199\3\2\2\2\u0198\u0190\3\2\2\2\u0198"+
-		"\u0193\3\2\2\2\u0199\'\3\2\2\2\u019a\u019c\7,\2\2\u019b\u019a\3\2\2\2"+
-		"\u019c\u019f\3\2\2\2\u019d\u019b\3\2\2\2\u019d\u019e\3\2\2\2\u019e\u01a0"+
-		"\3\2\2\2\u019f\u019d\3\2\2\2\u01a0\u01a1\7\n\2\2\u01a1\u01a2\5\34\17\2"+
-		"\u01a2\u01a3\b\25\1\2\u01a3)\3\2\2\2\u01a4\u01a5\5,\27\2\u01a5\u01a6\b"+
-		"\26\1\2\u01a6\u01ab\3\2\2\2\u01a7\u01a8\5.\30\2\u01a8\u01a9\b\26\1\2\u01a9"+
-		"\u01ab\3\2\2\2\u01aa\u01a4\3\2\2\2\u01aa\u01a7\3\2\2\2\u01ab+\3\2\2\2"+
-		"\u01ac\u01ad\b\27\1\2\u01ad\u01ae\7!\2\2\u01ae\u01af\5\66\34\2\u01af\u01b0"+
-		"\b\27\1\2\u01b0\u01b1\5\34\17\2\u01b1\u01b2\b\27\1\2\u01b2-\3\2\2\2\u01b3"+
-		"\u01b4\b\30\1\2\u01b4\u01b5\7\"\2\2\u01b5\u01b6\5\32\16\2\u01b6\u01ba"+
-		"\b\30\1\2\u01b7\u01b9\7,\2\2\u01b8\u01b7\3\2\2\2\u01b9\u01bc\3\2\2\2\u01ba"+
-		"\u01b8\3\2\2\2\u01ba\u01bb\3\2\2\2\u01bb\u01bd\3\2\2\2\u01bc\u01ba\3\2"+
-		"\2\2\u01bd\u01be\7!\2\2\u01be\u01bf\5\66\34\2\u01bf\u01c0\b\30\1\2\u01c0"+
-		"/\3\2\2\2\u01c1\u01c2\7\7\2\2\u01c2\u01c3\7%\2\2\u01c3\u01c4\5\66\34\2"+
-		"\u01c4\u01c5\b\31\1\2\u01c5\u01c6\7&\2\2\u01c6\61\3\2\2\2\u01c7\u01c8"+
-		"\58\35\2\u01c8\u01c9\7#\2\2\u01c9\u01ca\5\66\34\2\u01ca\u01cb\b\32\1\2"+
-		"\u01cb\63\3\2\2\2\u01cc\u01cd\5&\24\2\u01cd\u01ce\b\33\1\2\u01ce\u01e8"+
-		"\3\2\2\2\u01cf\u01d0\5\60\31\2\u01d0\u01d1\b\33\1\2\u01d1\u01e8\3\2\2"+
-		"\2\u01d2\u01d3\5\"\22\2\u01d3\u01d4\b\33\1\2\u01d4\u01e8\3\2\2\2\u01d5"+
-		"\u01d6\5$\23\2\u01d6\u01d7\b\33\1\2\u01d7\u01e8\3\2\2\2\u01d8\u01d9\5"+
-		"\62\32\2\u01d9\u01da\b\33\1\2\u01da\u01e8\3\2\2\2\u01db\u01dc\5 \21\2"+
-		"\u01dc\u01dd\b\33\1\2\u01dd\u01e8\3\2\2\2\u01de\u01df\5*\26\2\u01df\u01e0"+
-		"\b\33\1\2\u01e0\u01e8\3\2\2\2\u01e1\u01e2\5L\'\2\u01e2\u01e3\b\33\1\2"+
-		"\u01e3\u01e8\3\2\2\2\u01e4\u01e5\5J&\2\u01e5\u01e6\b\33\1\2\u01e6\u01e8"+
-		"\3\2\2\2\u01e7\u01cc\3\2\2\2\u01e7\u01cf\3\2\2\2\u01e7\u01d2\3\2\2\2\u01e7"+
-		"\u01d5\3\2\2\2\u01e7\u01d8\3\2\2\2\u01e7\u01db\3\2\2\2\u01e7\u01de\3\2"+
-		"\2\2\u01e7\u01e1\3\2\2\2\u01e7\u01e4\3\2\2\2\u01e8\65\3\2\2\2\u01e9\u01ea"+
-		"\58\35\2\u01ea\u01ef\b\34\1\2\u01eb\u01ec\7#\2\2\u01ec\u01ed\5\66\34\2"+
-		"\u01ed\u01ee\b\34\1\2\u01ee\u01f0\3\2\2\2\u01ef\u01eb\3\2\2\2\u01ef\u01f0"+
-		"\3\2\2\2\u01f0\67\3\2\2\2\u01f1\u01f2\5:\36\2\u01f2\u01f9\b\35\1\2\u01f3"+
-		"\u01f4\7\24\2\2\u01f4\u01f5\5:\36\2\u01f5\u01f6\b\35\1\2\u01f6\u01f8\3"+
-		"\2\2\2\u01f7\u01f3\3\2\2\2\u01f8\u01fb\3\2\2\2\u01f9\u01f7\3\2\2\2\u01f9"+
-		"\u01fa\3\2\2\2\u01fa9\3\2\2\2\u01fb\u01f9\3\2\2\2\u01fc\u01fd\5<\37\2"+
-		"\u01fd\u0204\b\36\1\2\u01fe\u01ff\7\23\2\2\u01ff\u0200\5<\37\2\u0200\u0201"+
-		"\b\36\1\2\u0201\u0203\3\2\2\2\u0202\u01fe\3\2\2\2\u0203\u0206\3\2\2\2"+
-		"\u0204\u0202\3\2\2\2\u0204\u0205\3\2\2\2\u0205;\3\2\2\2\u0206\u0204\3"+
-		"\2\2\2\u0207\u0208\5> \2\u0208\u020f\b\37\1\2\u0209\u020a\7\17\2\2\u020a"+
-		"\u020b\5> \2\u020b\u020c\b\37\1\2\u020c\u020e\3\2\2\2\u020d\u0209\3\2"+
-		"\2\2\u020e\u0211\3\2\2\2\u020f\u020d\3\2\2\2\u020f\u0210\3\2\2\2\u0210"+
-		"=\3\2\2\2\u0211\u020f\3\2\2\2\u0212\u0213\5@!\2\u0213\u021f\b \1\2\u0214"+
-		"\u0215\7\21\2\2\u0215\u0219\b \1\2\u0216\u0217\7\22\2\2\u0217\u0219\b"+
-		" \1\2\u0218\u0214\3\2\2\2\u0218\u0216\3\2\2\2\u0219\u021a\3\2\2\2\u021a"+
-		"\u021b\5@!\2\u021b\u021c\b \1\2\u021c\u021e\3\2\2\2\u021d\u0218\3\2\2"+
-		"\2\u021e\u0221\3\2\2\2\u021f\u021d\3\2\2\2\u021f\u0220\3\2\2\2\u0220?"+
-		"\3\2\2\2\u0221\u021f\3\2\2\2\u0222\u0223\5B\"\2\u0223\u022f\b!\1\2\u0224"+
-		"\u0225\7\13\2\2\u0225\u0229\b!\1\2\u0226\u0227\7\f\2\2\u0227\u0229\b!"+
-		"\1\2\u0228\u0224\3\2\2\2\u0228\u0226\3\2\2\2\u0229\u022a\3\2\2\2\u022a"+
-		"\u022b\5B\"\2\u022b\u022c\b!\1\2\u022c\u022e\3\2\2\2\u022d\u0228\3\2\2"+
-		"\2\u022e\u0231\3\2\2\2\u022f\u022d\3\2\2\2\u022f\u0230\3\2\2\2\u0230A"+
-		"\3\2\2\2\u0231\u022f\3\2\2\2\u0232\u0233\5D#\2\u0233\u023f\b\"\1\2\u0234"+
-		"\u0235\7\r\2\2\u0235\u0239\b\"\1\2\u0236\u0237\7\16\2\2\u0237\u0239\b"+
-		"\"\1\2\u0238\u0234\3\2\2\2\u0238\u0236\3\2\2\2\u0239\u023a\3\2\2\2\u023a"+
-		"\u023b\5D#\2\u023b\u023c\b\"\1\2\u023c\u023e\3\2\2\2\u023d\u0238\3\2\2"+
-		"\2\u023e\u0241\3\2\2\2\u023f\u023d\3\2\2\2\u023f\u0240\3\2\2\2\u0240C"+
-		"\3\2\2\2\u0241\u023f\3\2\2\2\u0242\u0243\7\25\2\2\u0243\u0247\b#\1\2\u0244"+
-		"\u0245\7\f\2\2\u0245\u0247\b#\1\2\u0246\u0242\3\2\2\2\u0246\u0244\3\2"+
-		"\2\2\u0247\u0248\3\2\2\2\u0248\u0249\5D#\2\u0249\u024a\b#\1\2\u024a\u024f"+
-		"\3\2\2\2\u024b\u024c\5F$\2\u024c\u024d\b#\1\2\u024d\u024f\3\2\2\2\u024e"+
-		"\u0246\3\2\2\2\u024e\u024b\3\2\2\2\u024fE\3\2\2\2\u0250\u0251\5H%\2\u0251"+
-		"\u025d\b$\1\2\u0252\u0253\7%\2\2\u0253\u0254\5\30\r\2\u0254\u0255\b$\1"+
-		"\2\u0255\u0256\7&\2\2\u0256\u025c\3\2\2\2\u0257\u0258\7*\2\2\u0258\u0259"+
-		"\5R*\2\u0259\u025a\b$\1\2\u025a\u025c\3\2\2\2\u025b\u0252\3\2\2\2\u025b"+
-		"\u0257\3\2\2\2\u025c\u025f\3\2\2\2\u025d\u025b\3\2\2\2\u025d\u025e\3\2"+
-		"\2\2\u025e\u026b\3\2\2\2\u025f\u025d\3\2\2\2\u0260\u0261\7\'\2\2\u0261"+
-		"\u0262\5\66\34\2\u0262\u0263\b$\1\2\u0263\u0264\7(\2\2\u0264\u026a\3\2"+
-		"\2\2\u0265\u0266\7*\2\2\u0266\u0267\5R*\2\u0267\u0268\b$\1\2\u0268\u026a"+
-		"\3\2\2\2\u0269\u0260\3\2\2\2\u0269\u0265\3\2\2\2\u026a\u026d\3\2\2\2\u026b"+
-		"\u0269\3\2\2\2\u026b\u026c\3\2\2\2\u026cG\3\2\2\2\u026d\u026b\3\2\2\2"+
-		"\u026e\u026f\5N(\2\u026f\u0270\b%\1\2\u0270\u0280\3\2\2\2\u0271\u0272"+
-		"\5R*\2\u0272\u0273\b%\1\2\u0273\u0280\3\2\2\2\u0274\u0275\7%\2\2\u0275"+
-		"\u0276\5\30\r\2\u0276\u0277\7&\2\2\u0277\u0278\b%\1\2\u0278\u0280\3\2"+
-		"\2\2\u0279\u027a\5J&\2\u027a\u027b\b%\1\2\u027b\u0280\3\2\2\2\u027c\u027d"+
-		"\5L\'\2\u027d\u027e\b%\1\2\u027e\u0280\3\2\2\2\u027f\u026e\3\2\2\2\u027f"+
-		"\u0271\3\2\2\2\u027f\u0274\3\2\2\2\u027f\u0279\3\2\2\2\u027f\u027c\3\2"+
-		"\2\2\u0280I\3\2\2\2\u0281\u0282\7\6\2\2\u0282\u0283\7%\2\2\u0283\u0284"+
-		"\5\66\34\2\u0284\u0285\b&\1\2\u0285\u0286\7&\2\2\u0286K\3\2\2\2\u0287"+
-		"\u0288\7\b\2\2\u0288\u0289\7%\2\2\u0289\u028a\5\66\34\2\u028a\u028b\7"+
-		")\2\2\u028b\u028c\5\66\34\2\u028c\u028d\7&\2\2\u028d\u028e\b\'\1\2\u028e"+
-		"M\3\2\2\2\u028f\u0290\5P)\2\u0290\u0291\b(\1\2\u0291\u0295\3\2\2\2\u0292"+
-		"\u0293\7-\2\2\u0293\u0295\b(\1\2\u0294\u028f\3\2\2\2\u0294\u0292\3\2\2"+
-		"\2\u0295O\3\2\2\2\u0296\u0297\7\26\2\2\u0297\u029b\b)\1\2\u0298\u0299"+
-		"\7\27\2\2\u0299\u029b\b)\1\2\u029a\u0296\3\2\2\2\u029a\u0298\3\2\2\2\u029b"+
-		"Q\3\2\2\2\u029c\u029d\7.\2\2\u029d\u029e\b*\1\2\u029eS\3\2\2\2\u029f\u02a0"+
-		"\7\32\2\2\u02a0\u02b0\b+\1\2\u02a1\u02a2\7\33\2\2\u02a2\u02b0\b+\1\2\u02a3"+
-		"\u02a4\7\34\2\2\u02a4\u02a5\7$\2\2\u02a5\u02a6\5T+\2\u02a6\u02a7\b+\1"+
-		"\2\u02a7\u02b0\3\2\2\2\u02a8\u02a9\7\35\2\2\u02a9\u02aa\5R*\2\u02aa\u02ab"+
-		"\b+\1\2\u02ab\u02b0\3\2\2\2\u02ac\u02ad\5V,\2\u02ad\u02ae\b+\1\2\u02ae"+
-		"\u02b0\3\2\2\2\u02af\u029f\3\2\2\2\u02af\u02a1\3\2\2\2\u02af\u02a3\3\2"+
-		"\2\2\u02af\u02a8\3\2\2\2\u02af\u02ac\3\2\2\2\u02b0U\3\2\2\2\u02b1\u02b2"+
-		"\b,\1\2\u02b2\u02b3\7\36\2\2\u02b3\u02c0\7\22\2\2\u02b4\u02c1\7\5\2\2"+
-		"\u02b5\u02b6\5T+\2\u02b6\u02bd\b,\1\2\u02b7\u02b8\7)\2\2\u02b8\u02b9\5"+
-		"T+\2\u02b9\u02ba\b,\1\2\u02ba\u02bc\3\2\2\2\u02bb\u02b7\3\2\2\2\u02bc"+
-		"\u02bf\3\2\2\2\u02bd\u02bb\3\2\2\2\u02bd\u02be\3\2\2\2\u02be\u02c1\3\2"+
-		"\2\2\u02bf\u02bd\3\2\2\2\u02c0\u02b4\3\2\2\2\u02c0\u02b5\3\2\2\2\u02c1"+
-		"\u02c2\3\2\2\2\u02c2\u02c8\7\20\2\2\u02c3\u02c4\5T+\2\u02c4\u02c5\b,\1"+
-		"\2\u02c5\u02c9\3\2\2\2\u02c6\u02c7\7\5\2\2\u02c7\u02c9\b,\1\2\u02c8\u02c3"+
-		"\3\2\2\2\u02c8\u02c6\3\2\2\2\u02c9\u02ca\3\2\2\2\u02ca\u02cb\7\21\2\2"+
-		"\u02cbW\3\2\2\2E[cnv\u008d\u0094\u0099\u009b\u00a0\u00ac\u00ba\u00c0\u00c8"+
-		"\u00ce\u00d2\u00da\u00e2\u00ea\u00f3\u0101\u0104\u0111\u0114\u011c\u0121"+
-		"\u0123\u012b\u0130\u0138\u0140\u0146\u014a\u014f\u015b\u0165\u016b\u0179"+
-		"\u017b\u018b\u0198\u019d\u01aa\u01ba\u01e7\u01ef\u01f9\u0204\u020f\u0218"+
-		"\u021f\u0228\u022f\u0238\u023f\u0246\u024e\u025b\u025d\u0269\u026b\u027f"+
-		"\u0294\u029a\u02af\u02bd\u02c0\u02c8";
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\3\2\7\2L\n\2\f\2\16\2O\13\2\3\2\3\2\3\2"+
+		"\7\2T\n\2\f\2\16\2W\13\2\3\2\3\2\3\3\3\3\3\3\3\3\7\3_\n\3\f\3\16\3b\13"+
+		"\3\3\3\3\3\3\3\7\3g\n\3\f\3\16\3j\13\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\6\5~\n\5\r\5\16\5\177\3\5\3\5"+
+		"\3\5\6\5\u0085\n\5\r\5\16\5\u0086\3\5\3\5\3\5\5\5\u008c\n\5\5\5\u008e"+
+		"\n\5\3\5\6\5\u0091\n\5\r\5\16\5\u0092\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\6\6\u009d\n\6\r\6\16\6\u009e\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7"+
+		"\3\7\3\7\5\7\u00ad\n\7\3\b\3\b\6\b\u00b1\n\b\r\b\16\b\u00b2\3\b\3\b\3"+
+		"\b\3\b\7\b\u00b9\n\b\f\b\16\b\u00bc\13\b\3\b\3\b\3\b\5\b\u00c1\n\b\6\b"+
+		"\u00c3\n\b\r\b\16\b\u00c4\3\t\3\t\3\t\3\t\6\t\u00cb\n\t\r\t\16\t\u00cc"+
+		"\3\n\3\n\3\n\3\n\6\n\u00d3\n\n\r\n\16\n\u00d4\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\5\13\u00dd\n\13\3\13\3\13\3\13\3\13\3\13\6\13\u00e4\n\13\r\13\16"+
+		"\13\u00e5\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\7\f\u00f2\n\f\f\f\16"+
+		"\f\u00f5\13\f\5\f\u00f7\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0102"+
+		"\n\r\f\r\16\r\u0105\13\r\5\r\u0107\n\r\3\16\3\16\3\16\3\16\6\16\u010d"+
+		"\n\16\r\16\16\16\u010e\3\16\3\16\3\16\5\16\u0114\n\16\5\16\u0116\n\16"+
+		"\3\17\3\17\3\17\3\17\6\17\u011c\n\17\r\17\16\17\u011d\3\17\3\17\3\17\5"+
+		"\17\u0123\n\17\3\20\3\20\3\20\3\20\6\20\u0129\n\20\r\20\16\20\u012a\3"+
+		"\20\3\20\3\20\3\20\3\20\3\20\7\20\u0133\n\20\f\20\16\20\u0136\13\20\3"+
+		"\20\5\20\u0139\n\20\6\20\u013b\n\20\r\20\16\20\u013c\3\20\6\20\u0140\n"+
+		"\20\r\20\16\20\u0141\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
+		"\5\21\u014e\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u0158\n"+
+		"\21\3\21\3\21\7\21\u015c\n\21\f\21\16\21\u015f\13\21\3\22\3\22\3\22\3"+
+		"\22\3\22\3\22\5\22\u0167\n\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\5\23\u0171\n\23\3\23\6\23\u0174\n\23\r\23\16\23\u0175\3\23\3\23\3\23"+
+		"\5\23\u017b\n\23\3\23\3\23\3\23\5\23\u0180\n\23\5\23\u0182\n\23\3\24\7"+
+		"\24\u0185\n\24\f\24\16\24\u0188\13\24\3\24\3\24\3\24\3\24\3\25\3\25\3"+
+		"\25\3\25\3\25\3\25\5\25\u0194\n\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26"+
+		"\3\27\3\27\3\27\3\27\3\27\7\27\u01a2\n\27\f\27\16\27\u01a5\13\27\3\27"+
+		"\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\5\31\u01b8\n\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u01cc\n\32\3\33\3\33"+
+		"\3\33\3\33\3\33\3\33\5\33\u01d4\n\33\3\34\3\34\3\34\3\34\3\34\5\34\u01db"+
+		"\n\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u01e3\n\34\3\34\3\34\3\34\3\34"+
+		"\3\34\5\34\u01ea\n\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u01f4"+
+		"\n\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u01fe\n\34\3\34\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
+		"\3\34\3\34\7\34\u0212\n\34\f\34\16\34\u0215\13\34\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\7\35\u0222\n\35\f\35\16\35\u0225\13"+
+		"\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\7"+
+		"\35\u0234\n\35\f\35\16\35\u0237\13\35\5\35\u0239\n\35\3\36\3\36\3\36\3"+
+		"\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\5"+
+		"\36\u024c\n\36\3\37\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3 \3 \3"+
+		"!\3!\3!\3!\3!\5!\u0261\n!\3\"\3\"\3\"\3\"\5\"\u0267\n\"\3#\3#\3#\3$\3"+
+		"$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\5$\u027c\n$\3%\3%\3%\3%\3"+
+		"%\3%\3%\3%\3%\3%\7%\u0288\n%\f%\16%\u028b\13%\5%\u028d\n%\3%\3%\3%\3%"+
+		"\3%\3%\5%\u0295\n%\3%\3%\3%\2\3\66&\2\4\6\b\n\f\16\20\22\24\26\30\32\34"+
+		"\36 \"$&(*,.\60\62\64\668:<>@BDFH\2\2\2\u02c5\2M\3\2\2\2\4Z\3\2\2\2\6"+
+		"n\3\2\2\2\bu\3\2\2\2\n\u0094\3\2\2\2\f\u00ac\3\2\2\2\16\u00ae\3\2\2\2"+
+		"\20\u00c6\3\2\2\2\22\u00ce\3\2\2\2\24\u00d6\3\2\2\2\26\u00e7\3\2\2\2\30"+
+		"\u00fa\3\2\2\2\32\u0115\3\2\2\2\34\u0122\3\2\2\2\36\u0124\3\2\2\2 \u0145"+
+		"\3\2\2\2\"\u0160\3\2\2\2$\u0168\3\2\2\2&\u0186\3\2\2\2(\u0193\3\2\2\2"+
+		"*\u0195\3\2\2\2,\u019c\3\2\2\2.\u01aa\3\2\2\2\60\u01b0\3\2\2\2\62\u01cb"+
+		"\3\2\2\2\64\u01cd\3\2\2\2\66\u01e2\3\2\2\28\u0216\3\2\2\2:\u024b\3\2\2"+
+		"\2<\u024d\3\2\2\2>\u0253\3\2\2\2@\u0260\3\2\2\2B\u0266\3\2\2\2D\u0268"+
+		"\3\2\2\2F\u027b\3\2\2\2H\u027d\3\2\2\2JL\7,\2\2KJ\3\2\2\2LO\3\2\2\2MK"+
+		"\3\2\2\2MN\3\2\2\2NP\3\2\2\2OM\3\2\2\2PQ\5\4\3\2QU\b\2\1\2RT\7,\2\2SR"+
+		"\3\2\2\2TW\3\2\2\2US\3\2\2\2UV\3\2\2\2VX\3\2\2\2WU\3\2\2\2XY\7\2\2\3Y"+
+		"\3\3\2\2\2Z`\b\3\1\2[\\\5\b\5\2\\]\b\3\1\2]_\3\2\2\2^[\3\2\2\2_b\3\2\2"+
+		"\2`^\3\2\2\2`a\3\2\2\2ah\3\2\2\2b`\3\2\2\2cd\5\24\13\2de\b\3\1\2eg\3\2"+
+		"\2\2fc\3\2\2\2gj\3\2\2\2hf\3\2\2\2hi\3\2\2\2ik\3\2\2\2jh\3\2\2\2kl\5\6"+
+		"\4\2lm\b\3\1\2m\5\3\2\2\2no\b\4\1\2op\7\3\2\2pq\7%\2\2qr\7&\2\2rs\5\32"+
+		"\16\2st\b\4\1\2t\7\3\2\2\2uv\b\5\1\2vw\7\35\2\2wx\5D#\2x\u008d\b\5\1\2"+
+		"yz\7\30\2\2z{\5\16\b\2{}\b\5\1\2|~\7,\2\2}|\3\2\2\2~\177\3\2\2\2\177}"+
+		"\3\2\2\2\177\u0080\3\2\2\2\u0080\u0081\3\2\2\2\u0081\u0082\7\31\2\2\u0082"+
+		"\u008e\3\2\2\2\u0083\u0085\7,\2\2\u0084\u0083\3\2\2\2\u0085\u0086\3\2"+
+		"\2\2\u0086\u0084\3\2\2\2\u0086\u0087\3\2\2\2\u0087\u0088\3\2\2\2\u0088"+
+		"\u0089\5\f\7\2\u0089\u008b\b\5\1\2\u008a\u008c\7+\2\2\u008b\u008a\3\2"+
+		"\2\2\u008b\u008c\3\2\2\2\u008c\u008e\3\2\2\2\u008dy\3\2\2\2\u008d\u0084"+
+		"\3\2\2\2\u008e\u0090\3\2\2\2\u008f\u0091\7,\2\2\u0090\u008f\3\2\2\2\u0091"+
+		"\u0092\3\2\2\2\u0092\u0090\3\2\2\2\u0092\u0093\3\2\2\2\u0093\t\3\2\2\2"+
+		"\u0094\u0095\b\6\1\2\u0095\u0096\5F$\2\u0096\u0097\5D#\2\u0097\u0098\b"+
+		"\6\1\2\u0098\u0099\5\26\f\2\u0099\u009a\b\6\1\2\u009a\u009c\7\30\2\2\u009b"+
+		"\u009d\7,\2\2\u009c\u009b\3\2\2\2\u009d\u009e\3\2\2\2\u009e\u009c\3\2"+
+		"\2\2\u009e\u009f\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u00a1\5\22\n\2\u00a1"+
+		"\u00a2\b\6\1\2\u00a2\u00a3\5\20\t\2\u00a3\u00a4\b\6\1\2\u00a4\u00a5\7"+
+		"\31\2\2\u00a5\13\3\2\2\2\u00a6\u00a7\5 \21\2\u00a7\u00a8\b\7\1\2\u00a8"+
+		"\u00ad\3\2\2\2\u00a9\u00aa\5\n\6\2\u00aa\u00ab\b\7\1\2\u00ab\u00ad\3\2"+
+		"\2\2\u00ac\u00a6\3\2\2\2\u00ac\u00a9\3\2\2\2\u00ad\r\3\2\2\2\u00ae\u00c2"+
+		"\b\b\1\2\u00af\u00b1\7,\2\2\u00b0\u00af\3\2\2\2\u00b1\u00b2\3\2\2\2\u00b2"+
+		"\u00b0\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00ba\3\2\2\2\u00b4\u00b5\5\f"+
+		"\7\2\u00b5\u00b6\b\b\1\2\u00b6\u00b7\7+\2\2\u00b7\u00b9\3\2\2\2\u00b8"+
+		"\u00b4\3\2\2\2\u00b9\u00bc\3\2\2\2\u00ba\u00b8\3\2\2\2\u00ba\u00bb\3\2"+
+		"\2\2\u00bb\u00bd\3\2\2\2\u00bc\u00ba\3\2\2\2\u00bd\u00be\5\f\7\2\u00be"+
+		"\u00c0\b\b\1\2\u00bf\u00c1\7+\2\2\u00c0\u00bf\3\2\2\2\u00c0\u00c1\3\2"+
+		"\2\2\u00c1\u00c3\3\2\2\2\u00c2\u00b0\3\2\2\2\u00c3\u00c4\3\2\2\2\u00c4"+
+		"\u00c2\3\2\2\2\u00c4\u00c5\3\2\2\2\u00c5\17\3\2\2\2\u00c6\u00c7\7\37\2"+
+		"\2\u00c7\u00c8\5\32\16\2\u00c8\u00ca\b\t\1\2\u00c9\u00cb\7,\2\2\u00ca"+
+		"\u00c9\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cc\u00cd\3\2"+
+		"\2\2\u00cd\21\3\2\2\2\u00ce\u00cf\7 \2\2\u00cf\u00d0\5\32\16\2\u00d0\u00d2"+
+		"\b\n\1\2\u00d1\u00d3\7,\2\2\u00d2\u00d1\3\2\2\2\u00d3\u00d4\3\2\2\2\u00d4"+
+		"\u00d2\3\2\2\2\u00d4\u00d5\3\2\2\2\u00d5\23\3\2\2\2\u00d6\u00dc\b\13\1"+
+		"\2\u00d7\u00d8\5F$\2\u00d8\u00d9\b\13\1\2\u00d9\u00dd\3\2\2\2\u00da\u00db"+
+		"\7\5\2\2\u00db\u00dd\b\13\1\2\u00dc\u00d7\3\2\2\2\u00dc\u00da\3\2\2\2"+
+		"\u00dd\u00de\3\2\2\2\u00de\u00df\5D#\2\u00df\u00e0\5\26\f\2\u00e0\u00e1"+
+		"\5\32\16\2\u00e1\u00e3\b\13\1\2\u00e2\u00e4\7,\2\2\u00e3\u00e2\3\2\2\2"+
+		"\u00e4\u00e5\3\2\2\2\u00e5\u00e3\3\2\2\2\u00e5\u00e6\3\2\2\2\u00e6\25"+
+		"\3\2\2\2\u00e7\u00e8\b\f\1\2\u00e8\u00f6\7%\2\2\u00e9\u00ea\5F$\2\u00ea"+
+		"\u00eb\5D#\2\u00eb\u00f3\b\f\1\2\u00ec\u00ed\7)\2\2\u00ed\u00ee\5F$\2"+
+		"\u00ee\u00ef\5D#\2\u00ef\u00f0\b\f\1\2\u00f0\u00f2\3\2\2\2\u00f1\u00ec"+
+		"\3\2\2\2\u00f2\u00f5\3\2\2\2\u00f3\u00f1\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4"+
+		"\u00f7\3\2\2\2\u00f5\u00f3\3\2\2\2\u00f6\u00e9\3\2\2\2\u00f6\u00f7\3\2"+
+		"\2\2\u00f7\u00f8\3\2\2\2\u00f8\u00f9\7&\2\2\u00f9\27\3\2\2\2\u00fa\u0106"+
+		"\b\r\1\2\u00fb\u00fc\5\64\33\2\u00fc\u0103\b\r\1\2\u00fd\u00fe\7)\2\2"+
+		"\u00fe\u00ff\5\64\33\2\u00ff\u0100\b\r\1\2\u0100\u0102\3\2\2\2\u0101\u00fd"+
+		"\3\2\2\2\u0102\u0105\3\2\2\2\u0103\u0101\3\2\2\2\u0103\u0104\3\2\2\2\u0104"+
+		"\u0107\3\2\2\2\u0105\u0103\3\2\2\2\u0106\u00fb\3\2\2\2\u0106\u0107\3\2"+
+		"\2\2\u0107\31\3\2\2\2\u0108\u0109\5\36\20\2\u0109\u010a\b\16\1\2\u010a"+
+		"\u0116\3\2\2\2\u010b\u010d\7,\2\2\u010c\u010b\3\2\2\2\u010d\u010e\3\2"+
+		"\2\2\u010e\u010c\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0110\3\2\2\2\u0110"+
+		"\u0111\5\62\32\2\u0111\u0113\b\16\1\2\u0112\u0114\7+\2\2\u0113\u0112\3"+
+		"\2\2\2\u0113\u0114\3\2\2\2\u0114\u0116\3\2\2\2\u0115\u0108\3\2\2\2\u0115"+
+		"\u010c\3\2\2\2\u0116\33\3\2\2\2\u0117\u0118\5\36\20\2\u0118\u0119\b\17"+
+		"\1\2\u0119\u0123\3\2\2\2\u011a\u011c\7,\2\2\u011b\u011a\3\2\2\2\u011c"+
+		"\u011d\3\2\2\2\u011d\u011b\3\2\2\2\u011d\u011e\3\2\2\2\u011e\u011f\3\2"+
+		"\2\2\u011f\u0120\5\62\32\2\u0120\u0121\b\17\1\2\u0121\u0123\3\2\2\2\u0122"+
+		"\u0117\3\2\2\2\u0122\u011b\3\2\2\2\u0123\35\3\2\2\2\u0124\u0125\b\20\1"+
+		"\2\u0125\u0126\7\30\2\2\u0126\u013a\b\20\1\2\u0127\u0129\7,\2\2\u0128"+
+		"\u0127\3\2\2\2\u0129\u012a\3\2\2\2\u012a\u0128\3\2\2\2\u012a\u012b\3\2"+
+		"\2\2\u012b\u012c\3\2\2\2\u012c\u012d\5\62\32\2\u012d\u0134\b\20\1\2\u012e"+
+		"\u012f\7+\2\2\u012f\u0130\5\62\32\2\u0130\u0131\b\20\1\2\u0131\u0133\3"+
+		"\2\2\2\u0132\u012e\3\2\2\2\u0133\u0136\3\2\2\2\u0134\u0132\3\2\2\2\u0134"+
+		"\u0135\3\2\2\2\u0135\u0138\3\2\2\2\u0136\u0134\3\2\2\2\u0137\u0139\7+"+
+		"\2\2\u0138\u0137\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u013b\3\2\2\2\u013a"+
+		"\u0128\3\2\2\2\u013b\u013c\3\2\2\2\u013c\u013a\3\2\2\2\u013c\u013d\3\2"+
+		"\2\2\u013d\u013f\3\2\2\2\u013e\u0140\7,\2\2\u013f\u013e\3\2\2\2\u0140"+
+		"\u0141\3\2\2\2\u0141\u013f\3\2\2\2\u0141\u0142\3\2\2\2\u0142\u0143\3\2"+
+		"\2\2\u0143\u0144\7\31\2\2\u0144\37\3\2\2\2\u0145\u0146\b\21\1\2\u0146"+
+		"\u0147\5F$\2\u0147\u0148\5D#\2\u0148\u014d\b\21\1\2\u0149\u014a\7#\2\2"+
+		"\u014a\u014b\5\66\34\2\u014b\u014c\b\21\1\2\u014c\u014e\3\2\2\2\u014d"+
+		"\u0149\3\2\2\2\u014d\u014e\3\2\2\2\u014e\u014f\3\2\2\2\u014f\u015d\b\21"+
+		"\1\2\u0150\u0151\7)\2\2\u0151\u0152\5D#\2\u0152\u0157\b\21\1\2\u0153\u0154"+
+		"\7#\2\2\u0154\u0155\5\66\34\2\u0155\u0156\b\21\1\2\u0156\u0158\3\2\2\2"+
+		"\u0157\u0153\3\2\2\2\u0157\u0158\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a"+
+		"\b\21\1\2\u015a\u015c\3\2\2\2\u015b\u0150\3\2\2\2\u015c\u015f\3\2\2\2"+
+		"\u015d\u015b\3\2\2\2\u015d\u015e\3\2\2\2\u015e!\3\2\2\2\u015f\u015d\3"+
+		"\2\2\2\u0160\u0161\b\22\1\2\u0161\u0162\7\4\2\2\u0162\u0166\b\22\1\2\u0163"+
+		"\u0164\5\64\33\2\u0164\u0165\b\22\1\2\u0165\u0167\3\2\2\2\u0166\u0163"+
+		"\3\2\2\2\u0166\u0167\3\2\2\2\u0167#\3\2\2\2\u0168\u0169\7\t\2\2\u0169"+
+		"\u016a\5\64\33\2\u016a\u0181\b\23\1\2\u016b\u016c\5\36\20\2\u016c\u0170"+
+		"\b\23\1\2\u016d\u016e\5&\24\2\u016e\u016f\b\23\1\2\u016f\u0171\3\2\2\2"+
+		"\u0170\u016d\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0182\3\2\2\2\u0172\u0174"+
+		"\7,\2\2\u0173\u0172\3\2\2\2\u0174\u0175\3\2\2\2\u0175\u0173\3\2\2\2\u0175"+
+		"\u0176\3\2\2\2\u0176\u0177\3\2\2\2\u0177\u0178\5\62\32\2\u0178\u017f\b"+
+		"\23\1\2\u0179\u017b\7+\2\2\u017a\u0179\3\2\2\2\u017a\u017b\3\2\2\2\u017b"+
+		"\u017c\3\2\2\2\u017c\u017d\5&\24\2\u017d\u017e\b\23\1\2\u017e\u0180\3"+
+		"\2\2\2\u017f\u017a\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0182\3\2\2\2\u0181"+
+		"\u016b\3\2\2\2\u0181\u0173\3\2\2\2\u0182%\3\2\2\2\u0183\u0185\7,\2\2\u0184"+
+		"\u0183\3\2\2\2\u0185\u0188\3\2\2\2\u0186\u0184\3\2\2\2\u0186\u0187\3\2"+
+		"\2\2\u0187\u0189\3\2\2\2\u0188\u0186\3\2\2\2\u0189\u018a\7\n\2\2\u018a"+
+		"\u018b\5\34\17\2\u018b\u018c\b\24\1\2\u018c\'\3\2\2\2\u018d\u018e\5*\26"+
+		"\2\u018e\u018f\b\25\1\2\u018f\u0194\3\2\2\2\u0190\u0191\5,\27\2\u0191"+
+		"\u0192\b\25\1\2\u0192\u0194\3\2\2\2\u0193\u018d\3\2\2\2\u0193\u0190\3"+
+		"\2\2\2\u0194)\3\2\2\2\u0195\u0196\b\26\1\2\u0196\u0197\7!\2\2\u0197\u0198"+
+		"\5\64\33\2\u0198\u0199\b\26\1\2\u0199\u019a\5\34\17\2\u019a\u019b\b\26"+
+		"\1\2\u019b+\3\2\2\2\u019c\u019d\b\27\1\2\u019d\u019e\7\"\2\2\u019e\u019f"+
+		"\5\32\16\2\u019f\u01a3\b\27\1\2\u01a0\u01a2\7,\2\2\u01a1\u01a0\3\2\2\2"+
+		"\u01a2\u01a5\3\2\2\2\u01a3\u01a1\3\2\2\2\u01a3\u01a4\3\2\2\2\u01a4\u01a6"+
+		"\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a6\u01a7\7!\2\2\u01a7\u01a8\5\64\33\2"+
+		"\u01a8\u01a9\b\27\1\2\u01a9-\3\2\2\2\u01aa\u01ab\7\7\2\2\u01ab\u01ac\7"+
+		"%\2\2\u01ac\u01ad\5\64\33\2\u01ad\u01ae\b\30\1\2\u01ae\u01af\7&\2\2\u01af"+
+		"/\3\2\2\2\u01b0\u01b1\5\66\34\2\u01b1\u01b7\b\31\1\2\u01b2\u01b3\7#\2"+
+		"\2\u01b3\u01b4\5\64\33\2\u01b4\u01b5\b\31\1\2\u01b5\u01b8\3\2\2\2\u01b6"+
+		"\u01b8\b\31\1\2\u01b7\u01b2\3\2\2\2\u01b7\u01b6\3\2\2\2\u01b8\61\3\2\2"+
+		"\2\u01b9\u01ba\5$\23\2\u01ba\u01bb\b\32\1\2\u01bb\u01cc\3\2\2\2\u01bc"+
+		"\u01bd\5.\30\2\u01bd\u01be\b\32\1\2\u01be\u01cc\3\2\2\2\u01bf\u01c0\5"+
+		"\"\22\2\u01c0\u01c1\b\32\1\2\u01c1\u01cc\3\2\2\2\u01c2\u01c3\5 \21\2\u01c3"+
+		"\u01c4\b\32\1\2\u01c4\u01cc\3\2\2\2\u01c5\u01c6\5(\25\2\u01c6\u01c7\b"+
+		"\32\1\2\u01c7\u01cc\3\2\2\2\u01c8\u01c9\5\60\31\2\u01c9\u01ca\b\32\1\2"+
+		"\u01ca\u01cc\3\2\2\2\u01cb\u01b9\3\2\2\2\u01cb\u01bc\3\2\2\2\u01cb\u01bf"+
+		"\3\2\2\2\u01cb\u01c2\3\2\2\2\u01cb\u01c5\3\2\2\2\u01cb\u01c8\3\2\2\2\u01cc"+
+		"\63\3\2\2\2\u01cd\u01ce\5\66\34\2\u01ce\u01d3\b\33\1\2\u01cf\u01d0\7#"+
+		"\2\2\u01d0\u01d1\5\64\33\2\u01d1\u01d2\b\33\1\2\u01d2\u01d4\3\2\2\2\u01d3"+
+		"\u01cf\3\2\2\2\u01d3\u01d4\3\2\2\2\u01d4\65\3\2\2\2\u01d5\u01da\b\34\1"+
+		"\2\u01d6\u01d7\7\25\2\2\u01d7\u01db\b\34\1\2\u01d8\u01d9\7\f\2\2\u01d9"+
+		"\u01db\b\34\1\2\u01da\u01d6\3\2\2\2\u01da\u01d8\3\2\2\2\u01db\u01dc\3"+
+		"\2\2\2\u01dc\u01dd\5\66\34\n\u01dd\u01de\b\34\1\2\u01de\u01e3\3\2\2\2"+
+		"\u01df\u01e0\58\35\2\u01e0\u01e1\b\34\1\2\u01e1\u01e3\3\2\2\2\u01e2\u01d5"+
+		"\3\2\2\2\u01e2\u01df\3\2\2\2\u01e3\u0213\3\2\2\2\u01e4\u01e9\f\t\2\2\u01e5"+
+		"\u01e6\7\r\2\2\u01e6\u01ea\b\34\1\2\u01e7\u01e8\7\16\2\2\u01e8\u01ea\b"+
+		"\34\1\2\u01e9\u01e5\3\2\2\2\u01e9\u01e7\3\2\2\2\u01ea\u01eb\3\2\2\2\u01eb"+
+		"\u01ec\5\66\34\n\u01ec\u01ed\b\34\1\2\u01ed\u0212\3\2\2\2\u01ee\u01f3"+
+		"\f\b\2\2\u01ef\u01f0\7\13\2\2\u01f0\u01f4\b\34\1\2\u01f1\u01f2\7\f\2\2"+
+		"\u01f2\u01f4\b\34\1\2\u01f3\u01ef\3\2\2\2\u01f3\u01f1\3\2\2\2\u01f4\u01f5"+
+		"\3\2\2\2\u01f5\u01f6\5\66\34\t\u01f6\u01f7\b\34\1\2\u01f7\u0212\3\2\2"+
+		"\2\u01f8\u01fd\f\7\2\2\u01f9\u01fa\7\21\2\2\u01fa\u01fe\b\34\1\2\u01fb"+
+		"\u01fc\7\22\2\2\u01fc\u01fe\b\34\1\2\u01fd\u01f9\3\2\2\2\u01fd\u01fb\3"+
+		"\2\2\2\u01fe\u01ff\3\2\2\2\u01ff\u0200\5\66\34\b\u0200\u0201\b\34\1\2"+
+		"\u0201\u0212\3\2\2\2\u0202\u0203\f\6\2\2\u0203\u0204\7\17\2\2\u0204\u0205"+
+		"\5\66\34\7\u0205\u0206\b\34\1\2\u0206\u0212\3\2\2\2\u0207\u0208\f\5\2"+
+		"\2\u0208\u0209\7\23\2\2\u0209\u020a\5\66\34\6\u020a\u020b\b\34\1\2\u020b"+
+		"\u0212\3\2\2\2\u020c\u020d\f\4\2\2\u020d\u020e\7\24\2\2\u020e\u020f\5"+
+		"\66\34\5\u020f\u0210\b\34\1\2\u0210\u0212\3\2\2\2\u0211\u01e4\3\2\2\2"+
+		"\u0211\u01ee\3\2\2\2\u0211\u01f8\3\2\2\2\u0211\u0202\3\2\2\2\u0211\u0207"+
+		"\3\2\2\2\u0211\u020c\3\2\2\2\u0212\u0215\3\2\2\2\u0213\u0211\3\2\2\2\u0213"+
+		"\u0214\3\2\2\2\u0214\67\3\2\2\2\u0215\u0213\3\2\2\2\u0216\u0217\5:\36"+
+		"\2\u0217\u0223\b\35\1\2\u0218\u0219\7%\2\2\u0219\u021a\5\30\r\2\u021a"+
+		"\u021b\b\35\1\2\u021b\u021c\7&\2\2\u021c\u0222\3\2\2\2\u021d\u021e\7*"+
+		"\2\2\u021e\u021f\5D#\2\u021f\u0220\b\35\1\2\u0220\u0222\3\2\2\2\u0221"+
+		"\u0218\3\2\2\2\u0221\u021d\3\2\2\2\u0222\u0225\3\2\2\2\u0223\u0221\3\2"+
+		"\2\2\u0223\u0224\3\2\2\2\u0224\u0238\3\2\2\2\u0225\u0223\3\2\2\2\u0226"+
+		"\u0227\7\'\2\2\u0227\u0228\5\64\33\2\u0228\u0229\b\35\1\2\u0229\u0235"+
+		"\7(\2\2\u022a\u022b\7\'\2\2\u022b\u022c\5\64\33\2\u022c\u022d\b\35\1\2"+
+		"\u022d\u022e\7(\2\2\u022e\u0234\3\2\2\2\u022f\u0230\7*\2\2\u0230\u0231"+
+		"\5D#\2\u0231\u0232\b\35\1\2\u0232\u0234\3\2\2\2\u0233\u022a\3\2\2\2\u0233"+
+		"\u022f\3\2\2\2\u0234\u0237\3\2\2\2\u0235\u0233\3\2\2\2\u0235\u0236\3\2"+
+		"\2\2\u0236\u0239\3\2\2\2\u0237\u0235\3\2\2\2\u0238\u0226\3\2\2\2\u0238"+
+		"\u0239\3\2\2\2\u02399\3\2\2\2\u023a\u023b\5@!\2\u023b\u023c\b\36\1\2\u023c"+
+		"\u024c\3\2\2\2\u023d\u023e\5D#\2\u023e\u023f\b\36\1\2\u023f\u024c\3\2"+
+		"\2\2\u0240\u0241\7%\2\2\u0241\u0242\5\30\r\2\u0242\u0243\7&\2\2\u0243"+
+		"\u0244\b\36\1\2\u0244\u024c\3\2\2\2\u0245\u0246\5<\37\2\u0246\u0247\b"+
+		"\36\1\2\u0247\u024c\3\2\2\2\u0248\u0249\5> \2\u0249\u024a\b\36\1\2\u024a"+
+		"\u024c\3\2\2\2\u024b\u023a\3\2\2\2\u024b\u023d\3\2\2\2\u024b\u0240\3\2"+
+		"\2\2\u024b\u0245\3\2\2\2\u024b\u0248\3\2\2\2\u024c;\3\2\2\2\u024d\u024e"+
+		"\7\6\2\2\u024e\u024f\7%\2\2\u024f\u0250\5\64\33\2\u0250\u0251\b\37\1\2"+
+		"\u0251\u0252\7&\2\2\u0252=\3\2\2\2\u0253\u0254\7\b\2\2\u0254\u0255\7%"+
+		"\2\2\u0255\u0256\5\64\33\2\u0256\u0257\7)\2\2\u0257\u0258\5\64\33\2\u0258"+
+		"\u0259\7&\2\2\u0259\u025a\b \1\2\u025a?\3\2\2\2\u025b\u025c\5B\"\2\u025c"+
+		"\u025d\b!\1\2\u025d\u0261\3\2\2\2\u025e\u025f\7-\2\2\u025f\u0261\b!\1"+
+		"\2\u0260\u025b\3\2\2\2\u0260\u025e\3\2\2\2\u0261A\3\2\2\2\u0262\u0263"+
+		"\7\26\2\2\u0263\u0267\b\"\1\2\u0264\u0265\7\27\2\2\u0265\u0267\b\"\1\2"+
+		"\u0266\u0262\3\2\2\2\u0266\u0264\3\2\2\2\u0267C\3\2\2\2\u0268\u0269\7"+
+		".\2\2\u0269\u026a\b#\1\2\u026aE\3\2\2\2\u026b\u026c\7\32\2\2\u026c\u027c"+
+		"\b$\1\2\u026d\u026e\7\33\2\2\u026e\u027c\b$\1\2\u026f\u0270\7\34\2\2\u0270"+
+		"\u0271\7$\2\2\u0271\u0272\5F$\2\u0272\u0273\b$\1\2\u0273\u027c\3\2\2\2"+
+		"\u0274\u0275\7\35\2\2\u0275\u0276\5D#\2\u0276\u0277\b$\1\2\u0277\u027c"+
+		"\3\2\2\2\u0278\u0279\5H%\2\u0279\u027a\b$\1\2\u027a\u027c\3\2\2\2\u027b"+
+		"\u026b\3\2\2\2\u027b\u026d\3\2\2\2\u027b\u026f\3\2\2\2\u027b\u0274\3\2"+
+		"\2\2\u027b\u0278\3\2\2\2\u027cG\3\2\2\2\u027d\u027e\b%\1\2\u027e\u027f"+
+		"\7\36\2\2\u027f\u028c\7\22\2\2\u0280\u028d\7\5\2\2\u0281\u0282\5F$\2\u0282"+
+		"\u0289\b%\1\2\u0283\u0284\7)\2\2\u0284\u0285\5F$\2\u0285\u0286\b%\1\2"+
+		"\u0286\u0288\3\2\2\2\u0287\u0283\3\2\2\2\u0288\u028b\3\2\2\2\u0289\u0287"+
+		"\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028d\3\2\2\2\u028b\u0289\3\2\2\2\u028c"+
+		"\u0280\3\2\2\2\u028c\u0281\3\2\2\2\u028d\u028e\3\2\2\2\u028e\u0294\7\20"+
+		"\2\2\u028f\u0290\5F$\2\u0290\u0291\b%\1\2\u0291\u0295\3\2\2\2\u0292\u0293"+
+		"\7\5\2\2\u0293\u0295\b%\1\2\u0294\u028f\3\2\2\2\u0294\u0292\3\2\2\2\u0295"+
+		"\u0296\3\2\2\2\u0296\u0297\7\21\2\2\u0297I\3\2\2\2EMU`h\177\u0086\u008b"+
+		"\u008d\u0092\u009e\u00ac\u00b2\u00ba\u00c0\u00c4\u00cc\u00d4\u00dc\u00e5"+
+		"\u00f3\u00f6\u0103\u0106\u010e\u0113\u0115\u011d\u0122\u012a\u0134\u0138"+
+		"\u013c\u0141\u014d\u0157\u015d\u0166\u0170\u0175\u017a\u017f\u0181\u0186"+
+		"\u0193\u01a3\u01b7\u01cb\u01d3\u01da\u01e2\u01e9\u01f3\u01fd\u0211\u0213"+
+		"\u0221\u0223\u0233\u0235\u0238\u024b\u0260\u0266\u027b\u0289\u028c\u0294";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
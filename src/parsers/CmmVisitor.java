@@ -119,12 +119,6 @@ public interface CmmVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitVarDecStatement(CmmParser.VarDecStatementContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#functionCallStmt}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitFunctionCallStmt(CmmParser.FunctionCallStmtContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link CmmParser#returnStatement}.
 	 * @param ctx the parse tree
@@ -168,11 +162,11 @@ public interface CmmVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitDisplayStatement(CmmParser.DisplayStatementContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link CmmParser#assignmentStatement}.
+	 * Visit a parse tree produced by {@link CmmParser#expressionStatement}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAssignmentStatement(CmmParser.AssignmentStatementContext ctx);
+	T visitExpressionStatement(CmmParser.ExpressionStatementContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link CmmParser#singleStatement}.
 	 * @param ctx the parse tree
@@ -186,47 +180,11 @@ public interface CmmVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitExpression(CmmParser.ExpressionContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link CmmParser#orExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitOrExpression(CmmParser.OrExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#andExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAndExpression(CmmParser.AndExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitEqualityExpression(CmmParser.EqualityExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitRelationalExpression(CmmParser.RelationalExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAdditiveExpression(CmmParser.AdditiveExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitMultiplicativeExpression(CmmParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CmmParser#preUnaryExpression}.
+	 * Visit a parse tree produced by {@link CmmParser#binaryExpression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitPreUnaryExpression(CmmParser.PreUnaryExpressionContext ctx);
+	T visitBinaryExpression(CmmParser.BinaryExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link CmmParser#accessExpression}.
 	 * @param ctx the parse tree